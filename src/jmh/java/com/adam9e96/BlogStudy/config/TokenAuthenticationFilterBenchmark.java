@@ -0,0 +1,54 @@
+package com.adam9e96.BlogStudy.config;
+
+import com.adam9e96.BlogStudy.config.jwt.JwtProperties;
+import com.adam9e96.BlogStudy.config.jwt.TokenAuthenticationMetrics;
+import com.adam9e96.BlogStudy.config.jwt.TokenProvider;
+import com.adam9e96.BlogStudy.config.jwt.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TokenAuthenticationFilter} 가 Authorization 헤더에서 토큰을 꺼내는 비용을 측정하는 벤치마크입니다.
+ * <p>
+ * 모든 /api 요청에서 실행되므로 Bearer 토큰, 헤더 없음, 다른 인증 방식 세 경우를 나누어 측정합니다.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class TokenAuthenticationFilterBenchmark {
+
+    private TokenAuthenticationFilter filter;
+    private String bearerHeader;
+    private String basicHeader;
+
+    @Setup
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer("bench@gmail.com");
+        jwtProperties.setSecretKey("ThisIsASecretKeyThatIsDefinitelyLongEnough1234567890");
+
+        filter = new TokenAuthenticationFilter(new TokenProvider(jwtProperties),
+                new VerifiedTokenCache(jwtProperties),
+                new TokenAuthenticationMetrics(new SimpleMeterRegistry()));
+        bearerHeader = "Bearer eyJ0eXAiOiJKV1QiLCJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJiZW5jaEBnbWFpbC5jb20ifQ.signature";
+        basicHeader = "Basic YmVuY2g6YmVuY2g=";
+    }
+
+    @Benchmark
+    public String getAccessToken_bearer() {
+        return filter.getAccessToken(bearerHeader);
+    }
+
+    @Benchmark
+    public String getAccessToken_missing() {
+        return filter.getAccessToken(null);
+    }
+
+    @Benchmark
+    public String getAccessToken_otherScheme() {
+        return filter.getAccessToken(basicHeader);
+    }
+}
@@ -0,0 +1,64 @@
+package com.adam9e96.BlogStudy.config.jwt;
+
+import com.adam9e96.BlogStudy.domain.User;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 실행되는 {@link TokenProvider} 의 토큰 발급, 검증, 인증 객체 생성 비용을 측정하는 벤치마크입니다.
+ * <p>
+ * {@code getAuthenticationFromClaims} 는 필터처럼 {@link TokenProvider#verify} 로 얻은 클레임을 재사용하는 경우이고,
+ * {@code getAuthentication} 은 토큰을 다시 파싱하는 경우입니다.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TokenProviderBenchmark {
+
+    private TokenProvider tokenProvider;
+    private User user;
+    private String token;
+    private Claims claims;
+
+    @Setup
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer("bench@gmail.com");
+        jwtProperties.setSecretKey("ThisIsASecretKeyThatIsDefinitelyLongEnough1234567890");
+
+        tokenProvider = new TokenProvider(jwtProperties);
+        tokenProvider.init();
+
+        user = User.builder()
+                .email("bench@gmail.com")
+                .password("bench")
+                .build();
+        token = tokenProvider.generateToken(user, Duration.ofHours(2));
+        claims = tokenProvider.verify(token).getClaims();
+    }
+
+    @Benchmark
+    public String makeToken() {
+        return tokenProvider.generateToken(user, Duration.ofHours(2));
+    }
+
+    @Benchmark
+    public boolean validToken() {
+        return tokenProvider.validToken(token);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return tokenProvider.getAuthentication(token);
+    }
+
+    @Benchmark
+    public Authentication getAuthenticationFromClaims() {
+        return tokenProvider.getAuthentication(token, claims);
+    }
+}
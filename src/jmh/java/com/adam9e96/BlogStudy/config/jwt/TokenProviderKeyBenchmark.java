@@ -0,0 +1,87 @@
+package com.adam9e96.BlogStudy.config.jwt;
+
+import com.adam9e96.BlogStudy.domain.User;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 키와 파서를 매번 만드는 기존 방식과, {@link TokenProvider} 에 캐시해 둔 방식을 비교하는 벤치마크입니다.
+ * <p>
+ * {@code legacy*} 벤치마크는 캐시 도입 전의 {@code getSecretKey()} + {@code Jwts.parser()} 호출 흐름을 그대로 재현합니다.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TokenProviderKeyBenchmark {
+
+    private JwtProperties jwtProperties;
+    private TokenProvider tokenProvider;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer("bench@gmail.com");
+        jwtProperties.setSecretKey("ThisIsASecretKeyThatIsDefinitelyLongEnough1234567890");
+
+        tokenProvider = new TokenProvider(jwtProperties);
+        tokenProvider.init();
+
+        user = User.builder()
+                .email("bench@gmail.com")
+                .password("bench")
+                .build();
+        token = tokenProvider.generateToken(user, Duration.ofHours(2));
+    }
+
+    // 기존 방식: 호출마다 비밀 키 문자열을 인코딩하고 키를 검증한 뒤 파서를 새로 만든다.
+    private SecretKey legacySecretKey() {
+        return Keys.hmacShaKeyFor(jwtProperties.getSecretKey().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public Object legacyValidToken() {
+        return Jwts.parser()
+                .verifyWith(legacySecretKey())
+                .build()
+                .parseSignedClaims(token);
+    }
+
+    @Benchmark
+    public boolean cachedValidToken() {
+        return tokenProvider.validToken(token);
+    }
+
+    @Benchmark
+    public String legacyMakeToken() {
+        Date now = new Date();
+        return Jwts.builder()
+                .header()
+                .keyId("typ")
+                .type("JWT")
+                .and()
+                .issuer(jwtProperties.getIssuer())
+                .issuedAt(now)
+                .id(UUID.randomUUID().toString()) // makeToken 과 같은 클레임을 만들도록 jti 도 넣는다.
+                .expiration(new Date(now.getTime() + Duration.ofHours(2).toMillis()))
+                .subject(user.getEmail())
+                .claim("id", user.getId())
+                .signWith(legacySecretKey(), Jwts.SIG.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public String cachedMakeToken() {
+        return tokenProvider.generateToken(user, Duration.ofHours(2));
+    }
+}
@@ -0,0 +1,54 @@
+package com.adam9e96.BlogStudy.dto;
+
+import com.adam9e96.BlogStudy.domain.Article;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 글 목록 API 응답 리스트를 Jackson 으로 JSON 직렬화하는 비용을 목록 크기별로 측정하는 벤치마크입니다.
+ * <p>
+ * {@code fullContent} 는 본문 전체(약 220자, content 컬럼 최대 길이에 가까움)를 담은 {@link ArticleResponse} 인 경우이고,
+ * {@code excerpt} 는 현재 목록 응답인 {@link ArticleListResponse} 처럼 잘라낸 본문(100자)을 담는 경우입니다.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ArticleResponseSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private ObjectWriter writer;
+    private List<ArticleResponse> fullContent;
+    private List<ArticleListResponse> excerpt;
+
+    @Setup
+    public void setUp() {
+        writer = new ObjectMapper().writer();
+        String content = "스프링 부트 블로그 본문 content ".repeat(10);
+        fullContent = new ArrayList<>(size);
+        excerpt = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Article article = Article.builder().title("제목 " + i).content(content).build();
+            fullContent.add(new ArticleResponse(article));
+            excerpt.add(new ArticleListResponse(new ArticleSummary((long) i, "제목 " + i, null, null,
+                    content.substring(0, 100))));
+        }
+    }
+
+    @Benchmark
+    public byte[] fullContent() throws Exception {
+        return writer.writeValueAsBytes(fullContent);
+    }
+
+    @Benchmark
+    public byte[] excerpt() throws Exception {
+        return writer.writeValueAsBytes(excerpt);
+    }
+}
@@ -0,0 +1,114 @@
+package com.adam9e96.BlogStudy.search;
+
+import com.adam9e96.BlogStudy.domain.Article;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시물 100만 개를 색인한 {@link ArticleSearchIndex} 에서 검색 한 번(상위 20건)의 응답 시간 분포를 측정하는 벤치마크입니다.
+ * <p>
+ * 본문은 한글 단어 5,000개를 Zipf 분포(앞쪽 단어일수록 자주 나옴)로 뽑고 조사를 붙여 만듭니다.
+ * 그래서 "스프링", "데이터" 같은 상위 단어와 "에서", "하는" 같은 조사의 bigram 은 posting 이 수십만 ~ 100만 건이 됩니다.
+ * 메모리 안에서 100만 개를 색인하기 위해 본문은 실제 글보다 짧게(단어 8 ~ 16개) 만듭니다. 검색 비용은 본문 길이보다 posting 길이에 좌우됩니다.
+ * </p>
+ * <p>
+ * {@code SampleTime} 모드이므로 결과에 p50, p99 등 백분위 응답 시간이 함께 나옵니다.
+ * 실행: {@code gradle jmh -PjmhIncludes=ArticleSearchIndexBenchmark}
+ * </p>
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1536m", "-Xmx1536m"})
+public class ArticleSearchIndexBenchmark {
+
+    private static final String[] COMMON_WORDS = {
+            "스프링", "데이터", "트랜잭션", "인덱스", "캐시", "보안", "테스트", "배포", "서버", "클라이언트",
+            "토큰", "인증", "쿼리", "성능", "메모리", "스레드", "요청", "응답", "설정", "프로젝트"};
+
+    private static final String[] PARTICLES = {"", "", "을", "를", "이", "가", "의", "에서", "으로", "하는", "했다"};
+
+    private static final String[] SYLLABLES = (
+            "가나다라마바사아자차카타파하거너더러머버서어저처커터퍼허고노도로모보소오조초코토포호구누두루무부수우주추쿠투푸후"
+                    + "기니디리미비시이지치키티피히개내대래매배새애재채캐태패해게네데레메베세에제체케테페헤강난달랑망방상앙장창"
+                    + "경녕동령명병성영정청관남단람만반산안잔찬건넌던런먼번선언전천곤논돈론몬본손온존촌군눈둔룬문분순운준춘")
+            .split("");
+
+    private static final int VOCABULARY_SIZE = 5_000;
+
+    @Param({"1000000"})
+    private int documents;
+
+    /**
+     * 검색어: 상위 단어 하나, 상위 단어 여러 개, 조사가 붙은 구절, 드문 단어
+     */
+    @Param({"스프링", "스프링 트랜잭션 성능", "데이터베이스에서 하는", "쿠투푸"})
+    private String query;
+
+    private ArticleSearchIndex index;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        Random random = new Random(42);
+        String[] vocabulary = vocabulary(random);
+        double[] cumulative = zipf(vocabulary.length);
+        Field id = Article.class.getDeclaredField("id");
+        id.setAccessible(true);
+
+        index = new ArticleSearchIndex();
+        for (long i = 1; i <= documents; i++) {
+            Article article = Article.builder()
+                    .title(sentence(random, vocabulary, cumulative, 2 + random.nextInt(3)))
+                    .content(sentence(random, vocabulary, cumulative, 8 + random.nextInt(9)))
+                    .build();
+            id.set(article, i);
+            index.index(article);
+        }
+    }
+
+    @Benchmark
+    public ArticleSearchIndex.Result search() {
+        return index.search(query, 0, 20);
+    }
+
+    private static String[] vocabulary(Random random) {
+        String[] vocabulary = new String[VOCABULARY_SIZE];
+        System.arraycopy(COMMON_WORDS, 0, vocabulary, 0, COMMON_WORDS.length);
+        for (int i = COMMON_WORDS.length; i < vocabulary.length; i++) {
+            StringBuilder word = new StringBuilder();
+            for (int j = 0; j < 2 + random.nextInt(3); j++) {
+                word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+            vocabulary[i] = word.toString();
+        }
+        return vocabulary;
+    }
+
+    // i 번째 단어가 나올 확률이 1 / (i + 1) 에 비례하는 누적 분포
+    private static double[] zipf(int size) {
+        double[] cumulative = new double[size];
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += 1.0 / (i + 1);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulative[i] /= sum;
+        }
+        return cumulative;
+    }
+
+    private static String sentence(Random random, String[] vocabulary, double[] cumulative, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            int found = Arrays.binarySearch(cumulative, random.nextDouble());
+            String word = vocabulary[Math.min(found >= 0 ? found : -found - 1, vocabulary.length - 1)];
+            sentence.append(word).append(PARTICLES[random.nextInt(PARTICLES.length)]).append(' ');
+        }
+        return sentence.toString();
+    }
+}
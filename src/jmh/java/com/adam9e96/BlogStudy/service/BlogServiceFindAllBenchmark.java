@@ -0,0 +1,70 @@
+package com.adam9e96.BlogStudy.service;
+
+import com.adam9e96.BlogStudy.BlogStudyApplication;
+import com.adam9e96.BlogStudy.domain.Article;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인메모리 H2 에 게시물을 채워 두고 {@link BlogServiceImpl#findAll()} 의 전체 조회 비용을 측정하는 벤치마크입니다.
+ * <p>
+ * 웹 서버 없이 애플리케이션 컨텍스트를 띄우고(행 수마다 별도 데이터베이스), JDBC 배치 INSERT 로 게시물을 채웁니다.
+ * SQL 로그와 data.sql 초기화는 끕니다. 엔티티 전체를 읽어 오므로 행 수에 비례하는 비용과 할당량을 확인할 수 있습니다.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class BlogServiceFindAllBenchmark {
+
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    @Param({"1000", "100000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private BlogService blogService;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BlogStudyApplication.class)
+                .web(WebApplicationType.NONE)
+                // properties() 는 기본값이라 application.properties 에 덮이므로 명령행 인자로 전달
+                .run("--spring.datasource.url=jdbc:h2:mem:bench-" + rows + ";DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.sql.init.mode=never",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.org.hibernate.SQL=warn",
+                        "--logging.level.root=warn",
+                        "--blog.password.benchmark-iterations=0");
+        blogService = context.getBean(BlogService.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        String content = "스프링 부트 블로그 본문 content ".repeat(10);
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (long id = 1; id <= rows; id++) {
+            batch.add(new Object[]{id, "제목 " + id, content});
+            if (batch.size() == INSERT_BATCH_SIZE || id == rows) {
+                jdbcTemplate.batchUpdate("insert into article (id, title, content, created_at, updated_at, version) "
+                        + "values (?, ?, ?, now(), now(), 0)", batch);
+                batch.clear();
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Article> findAll() {
+        return blogService.findAll();
+    }
+}
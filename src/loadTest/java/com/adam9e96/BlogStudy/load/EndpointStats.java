@@ -0,0 +1,60 @@
+package com.adam9e96.BlogStudy.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * API 하나의 응답 시간 분포와 실패 수를 모으는 클래스입니다.
+ * <p>
+ * 응답 시간은 HdrHistogram {@link Recorder} 에 마이크로초 단위로 기록하므로 여러 클라이언트 스레드가 잠금 없이 동시에 기록할 수 있습니다.
+ * 성공(2xx) 응답만 응답 시간에 포함하고, 실패는 상태 코드별로 셉니다. 연결 오류 등 응답을 받지 못한 경우는 상태 코드 {@code -1} 입니다.
+ * </p>
+ */
+final class EndpointStats {
+
+    /**
+     * 기록할 수 있는 최대 응답 시간 (이보다 긴 값은 이 값으로 기록)
+     */
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Map<Integer, LongAdder> errors = new ConcurrentHashMap<>();
+
+    void record(int status, long elapsedNanos) {
+        if (status >= 200 && status < 300) {
+            recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS));
+        } else {
+            errors.computeIfAbsent(status, key -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * 지금까지 기록한 값을 버립니다. 예열이 끝나고 측정을 시작할 때 호출합니다.
+     */
+    void reset() {
+        recorder.reset();
+        errors.clear();
+    }
+
+    /**
+     * @return 마지막 {@link #reset()} 이후 기록한 응답 시간 분포 (마이크로초)
+     */
+    Histogram histogram() {
+        return recorder.getIntervalHistogram();
+    }
+
+    /**
+     * @return 상태 코드별 실패 수
+     */
+    Map<Integer, Long> errors() {
+        Map<Integer, Long> result = new TreeMap<>();
+        errors.forEach((status, count) -> result.put(status, count.sum()));
+        return result;
+    }
+}
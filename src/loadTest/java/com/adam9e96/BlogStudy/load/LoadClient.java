@@ -0,0 +1,114 @@
+package com.adam9e96.BlogStudy.load;
+
+import com.adam9e96.BlogStudy.dto.AddArticleRequest;
+import com.adam9e96.BlogStudy.dto.UpdateArticleRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 한 명의 사용자처럼 요청을 보내는 클라이언트입니다.
+ * <p>
+ * 응답을 받은 뒤에 다음 요청을 보내는 닫힌 루프(closed loop)로 동작하며, 요청 종류는 설정한 비중에 따라 무작위로 고릅니다.
+ * 조회와 수정은 미리 만들어 둔 게시물 중에서 고르고, 삭제는 이 클라이언트가 직접 만든 게시물만 대상으로 합니다.
+ * 삭제할 게시물이 없으면 대신 게시물을 만듭니다. 그래서 미리 만든 게시물은 측정 중에 없어지지 않습니다.
+ * </p>
+ */
+final class LoadClient implements Runnable {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final String accessToken;
+    private final long[] seededIds;
+    private final Operation[] weightedOperations;
+    private final int pageSize;
+    private final Map<Operation, EndpointStats> stats;
+    private final long stopAtNanos;
+    private final Deque<Long> createdIds = new ArrayDeque<>();
+
+    LoadClient(HttpClient httpClient, ObjectMapper objectMapper, String baseUrl, String accessToken,
+               long[] seededIds, Operation[] weightedOperations, int pageSize,
+               Map<Operation, EndpointStats> stats, long stopAtNanos) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.accessToken = accessToken;
+        this.seededIds = seededIds;
+        this.weightedOperations = weightedOperations;
+        this.pageSize = pageSize;
+        this.stats = stats;
+        this.stopAtNanos = stopAtNanos;
+    }
+
+    @Override
+    public void run() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < stopAtNanos && !Thread.currentThread().isInterrupted()) {
+            Operation operation = weightedOperations[random.nextInt(weightedOperations.length)];
+            if (operation == Operation.DELETE && createdIds.isEmpty()) {
+                operation = Operation.CREATE;
+            }
+
+            long start = System.nanoTime();
+            int status;
+            try {
+                status = execute(operation, random);
+            } catch (IOException e) {
+                status = -1;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            stats.get(operation).record(status, System.nanoTime() - start);
+        }
+    }
+
+    private int execute(Operation operation, ThreadLocalRandom random) throws IOException, InterruptedException {
+        long seededId = seededIds[random.nextInt(seededIds.length)];
+        return switch (operation) {
+            case LIST -> send(request("/api/articles?size=" + pageSize).GET());
+            case READ -> send(request("/api/articles/" + seededId).GET());
+            case CREATE -> create();
+            case UPDATE -> send(request("/api/articles/" + seededId)
+                    .PUT(json(new UpdateArticleRequest("수정된 제목 " + seededId, "수정된 본문 " + System.nanoTime()))));
+            case DELETE -> send(request("/api/articles/" + createdIds.pop()).DELETE());
+        };
+    }
+
+    private int create() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(
+                request("/api/articles").POST(json(new AddArticleRequest("부하 테스트 제목", "부하 테스트 본문 " + System.nanoTime()))).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() == 201) {
+            createdIds.push(objectMapper.readTree(response.body()).get("id").asLong());
+        }
+        return response.statusCode();
+    }
+
+    private int send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + accessToken)
+                .header("Content-Type", "application/json");
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) throws IOException {
+        return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+    }
+}
@@ -0,0 +1,236 @@
+package com.adam9e96.BlogStudy.load;
+
+import com.adam9e96.BlogStudy.BlogStudyApplication;
+import com.adam9e96.BlogStudy.config.jwt.TokenProvider;
+import com.adam9e96.BlogStudy.domain.RefreshToken;
+import com.adam9e96.BlogStudy.domain.User;
+import com.adam9e96.BlogStudy.dto.AddArticleRequest;
+import com.adam9e96.BlogStudy.dto.BulkImportResponse;
+import com.adam9e96.BlogStudy.dto.CreateAccessTokenRequest;
+import com.adam9e96.BlogStudy.repository.RefreshTokenRepository;
+import com.adam9e96.BlogStudy.repository.UserRepository;
+import com.adam9e96.BlogStudy.service.BlogService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 외부 서비스 없이 애플리케이션을 띄워 게시물 API 에 섞인 요청을 보내고, API 별 응답 시간 분포와 처리량을 기록하는 부하 테스트입니다.
+ * <p>
+ * 실행: {@code gradle loadTest -PloadArgs="--users=50 --articles=10000 --clients=50 --duration=30s"}
+ * (설정 항목은 {@link LoadTestOptions} 참고)
+ * </p>
+ * <ol>
+ *   <li>임의 포트로 애플리케이션을 띄웁니다 (인메모리 H2, data.sql 초기화와 SQL 로그는 끔).</li>
+ *   <li>게시물은 대량 등록 서비스({@link BlogService#importAll})로, 사용자는 저장소로 직접 채웁니다.</li>
+ *   <li>사용자마다 리프레시 토큰을 저장해 두고 {@code POST /api/token} 으로 액세스 토큰을 발급받습니다.</li>
+ *   <li>클라이언트를 가상 스레드로 띄워 예열 후 측정하고, 결과를 {@code build/reports/load} 아래 파일로 남깁니다.</li>
+ * </ol>
+ * <p>
+ * 클라이언트와 서버가 같은 JVM 에서 CPU 를 나눠 쓰고, 응답을 기다린 뒤 다음 요청을 보내므로 서버가 느려지면 요청도 줄어듭니다
+ * (coordinated omission). 절대값보다는 같은 설정으로 돌린 변경 전후 결과를 비교하는 용도로 사용합니다.
+ * </p>
+ */
+public final class LoadTest {
+
+    private static final int IMPORT_LOG_INTERVAL = 10_000;
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        // properties() 는 기본값이라 application.properties 에 덮이므로 명령행 인자로 전달
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BlogStudyApplication.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:load-test;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.sql.init.mode=never",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.org.hibernate.SQL=warn",
+                        "--logging.level.root=warn",
+                        "--blog.password.benchmark-iterations=0")) {
+            String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+
+            long[] articleIds = seedArticles(context, options.articles());
+            List<User> users = seedUsers(context, options.users());
+            System.out.printf("Seeded %d articles and %d users%n", articleIds.length, users.size());
+
+            try (HttpClient httpClient = HttpClient.newBuilder()
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build()) {
+                List<String> accessTokens = issueAccessTokens(context, httpClient, objectMapper, baseUrl, users);
+                Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+                for (Operation operation : Operation.values()) {
+                    stats.put(operation, new EndpointStats());
+                }
+
+                long measuredNanos = drive(options, httpClient, objectMapper, baseUrl, accessTokens, articleIds, stats);
+                String report = report(options, stats, measuredNanos);
+                Files.createDirectories(options.report().toAbsolutePath().getParent());
+                Files.writeString(options.report(), report, StandardCharsets.UTF_8);
+                System.out.print(report);
+                System.out.println("Report written to " + options.report().toAbsolutePath());
+            }
+        }
+    }
+
+    private static long[] seedArticles(ConfigurableApplicationContext context, int count) {
+        Iterator<AddArticleRequest> requests = IntStream.rangeClosed(1, count)
+                .peek(i -> {
+                    if (i % IMPORT_LOG_INTERVAL == 0) {
+                        System.out.printf("Seeding articles: %d/%d%n", i, count);
+                    }
+                })
+                .mapToObj(i -> new AddArticleRequest("부하 테스트 게시물 " + i, "스프링 부트 블로그 본문 content ".repeat(5) + i))
+                .iterator();
+        BulkImportResponse response = context.getBean(BlogService.class).importAll(requests);
+        if (response.getFailed() > 0) {
+            throw new IllegalStateException("failed to seed " + response.getFailed() + " articles");
+        }
+        return context.getBean(JdbcTemplate.class)
+                .queryForList("select id from article order by id", Long.class)
+                .stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+
+    private static List<User> seedUsers(ConfigurableApplicationContext context, int count) {
+        // 사용자마다 BCrypt 해시를 계산하면 준비 시간이 길어지므로 하나의 해시를 공유
+        String password = context.getBean(PasswordEncoder.class).encode("load-test");
+        List<User> users = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            users.add(User.builder().email("load-user-" + i + "@test.com").password(password).build());
+        }
+        return context.getBean(UserRepository.class).saveAll(users);
+    }
+
+    private static List<String> issueAccessTokens(ConfigurableApplicationContext context, HttpClient httpClient,
+                                                  ObjectMapper objectMapper, String baseUrl, List<User> users)
+            throws IOException, InterruptedException {
+        TokenProvider tokenProvider = context.getBean(TokenProvider.class);
+        RefreshTokenRepository refreshTokenRepository = context.getBean(RefreshTokenRepository.class);
+        List<String> accessTokens = new ArrayList<>(users.size());
+        for (User user : users) {
+            String familyId = UUID.randomUUID().toString();
+            String refreshToken = tokenProvider.generateRefreshToken(user, familyId, RefreshToken.DEFAULT_TTL);
+            refreshTokenRepository.save(new RefreshToken(user.getId(), refreshToken, familyId,
+                    LocalDateTime.now().plus(RefreshToken.DEFAULT_TTL)));
+            CreateAccessTokenRequest request = new CreateAccessTokenRequest();
+            request.setRefreshToken(refreshToken);
+
+            HttpResponse<byte[]> response = httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/token"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofByteArray(
+                                    objectMapper.writeValueAsBytes(request)))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("failed to issue access token: status=" + response.statusCode());
+            }
+            accessTokens.add(objectMapper.readTree(response.body()).get("accessToken").asText());
+        }
+        return accessTokens;
+    }
+
+    /**
+     * 예열 시간과 측정 시간 동안 클라이언트를 돌립니다. 예열이 끝나면 그때까지의 기록을 버립니다.
+     *
+     * @return 측정 구간의 실제 길이 (나노초)
+     */
+    private static long drive(LoadTestOptions options, HttpClient httpClient, ObjectMapper objectMapper, String baseUrl,
+                              List<String> accessTokens, long[] articleIds, Map<Operation, EndpointStats> stats)
+            throws InterruptedException {
+        Operation[] weightedOperations = options.mix().entrySet().stream()
+                .flatMap(entry -> IntStream.range(0, entry.getValue()).mapToObj(i -> entry.getKey()))
+                .toArray(Operation[]::new);
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long stopAt = measureFrom + options.duration().toNanos();
+
+        System.out.printf("Warming up for %ds with %d clients%n", options.warmup().toSeconds(), options.clients());
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.clients(); i++) {
+                clients.execute(new LoadClient(httpClient, objectMapper, baseUrl, accessTokens.get(i % accessTokens.size()),
+                        articleIds, weightedOperations, options.pageSize(), stats, stopAt));
+            }
+
+            TimeUnit.NANOSECONDS.sleep(measureFrom - System.nanoTime());
+            stats.values().forEach(EndpointStats::reset);
+            measureFrom = System.nanoTime();
+            System.out.printf("Measuring for %ds%n", options.duration().toSeconds());
+        }
+        return System.nanoTime() - measureFrom;
+    }
+
+    private static String report(LoadTestOptions options, Map<Operation, EndpointStats> stats, long measuredNanos) {
+        double seconds = measuredNanos / 1e9;
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(buffer, true, StandardCharsets.UTF_8);
+        out.printf("Load test report (%s)%n", LocalDateTime.now());
+        out.printf("users=%d articles=%d clients=%d warmup=%ds duration=%ds mix=%s page-size=%d%n",
+                options.users(), options.articles(), options.clients(), options.warmup().toSeconds(),
+                options.duration().toSeconds(), options.mix(), options.pageSize());
+        out.println("Note: client and server share one JVM; closed-loop latencies are not corrected for coordinated omission.");
+        out.println();
+        out.printf("%-28s %9s %9s %9s %9s %9s %9s  %s%n",
+                "endpoint", "count", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "errors");
+
+        Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = stats.get(operation).histogram();
+            Map<Integer, Long> errors = stats.get(operation).errors();
+            histograms.put(operation, histogram);
+            total.add(histogram);
+            totalErrors += errors.values().stream().mapToLong(Long::longValue).sum();
+            printRow(out, operation.endpoint(), histogram, seconds, errors.isEmpty() ? "0" : errors.toString());
+        }
+        printRow(out, "total", total, seconds, String.valueOf(totalErrors));
+
+        // 그래프로 비교할 수 있도록 HdrHistogram 백분위 분포(밀리초)를 함께 기록
+        for (Map.Entry<Operation, Histogram> entry : histograms.entrySet()) {
+            if (entry.getValue().getTotalCount() > 0) {
+                out.printf("%n# %s%n", entry.getKey().endpoint());
+                entry.getValue().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+
+    private static void printRow(PrintStream out, String name, Histogram histogram, double seconds, String errors) {
+        out.printf("%-28s %9d %9.1f %9.2f %9.2f %9.2f %9.2f  %s%n", name, histogram.getTotalCount(),
+                histogram.getTotalCount() / seconds,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0,
+                errors);
+    }
+}
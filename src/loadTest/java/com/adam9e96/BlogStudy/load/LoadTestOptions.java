@@ -0,0 +1,78 @@
+package com.adam9e96.BlogStudy.load;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정입니다. {@code --이름=값} 형식의 명령행 인자로 바꿀 수 있습니다.
+ *
+ * <ul>
+ *   <li>{@code --users} - 미리 만들어 둘 사용자 수 (클라이언트는 사용자 토큰을 돌아가며 사용)</li>
+ *   <li>{@code --articles} - 미리 만들어 둘 게시물 수</li>
+ *   <li>{@code --clients} - 동시에 요청을 보내는 클라이언트 수 (각자 응답을 받은 뒤 다음 요청을 보냄)</li>
+ *   <li>{@code --warmup}, {@code --duration} - 예열 시간과 측정 시간 (예: {@code 10s}, {@code 1m})</li>
+ *   <li>{@code --mix} - 요청 종류별 비중 (예: {@code list:40,read:40,create:10,update:7,delete:3})</li>
+ *   <li>{@code --page-size} - 목록 조회 페이지 크기</li>
+ *   <li>{@code --report} - 결과 파일 경로</li>
+ * </ul>
+ *
+ * @param users    사용자 수
+ * @param articles 게시물 수
+ * @param clients  동시 클라이언트 수
+ * @param warmup   예열 시간 (결과에 포함하지 않음)
+ * @param duration 측정 시간
+ * @param mix      요청 종류별 비중
+ * @param pageSize 목록 조회 페이지 크기
+ * @param report   결과 파일 경로
+ */
+record LoadTestOptions(int users, int articles, int clients, Duration warmup, Duration duration,
+                       Map<Operation, Integer> mix, int pageSize, Path report) {
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("invalid argument: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        return new LoadTestOptions(
+                Integer.parseInt(values.getOrDefault("users", "50")),
+                Integer.parseInt(values.getOrDefault("articles", "10000")),
+                Integer.parseInt(values.getOrDefault("clients", "50")),
+                duration(values.getOrDefault("warmup", "10s")),
+                duration(values.getOrDefault("duration", "30s")),
+                mix(values.getOrDefault("mix", "list:40,read:40,create:10,update:7,delete:3")),
+                Integer.parseInt(values.getOrDefault("page-size", "20")),
+                Path.of(values.getOrDefault("report", "build/reports/load/load-test-" + timestamp + ".txt")));
+    }
+
+    private static Duration duration(String value) {
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return switch (value.charAt(value.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            default -> throw new IllegalArgumentException("invalid duration: " + value);
+        };
+    }
+
+    private static Map<Operation, Integer> mix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            mix.put(Operation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("invalid mix: " + value);
+        }
+        return mix;
+    }
+}
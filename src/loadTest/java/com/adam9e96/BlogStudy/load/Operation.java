@@ -0,0 +1,23 @@
+package com.adam9e96.BlogStudy.load;
+
+/**
+ * 부하 테스트가 호출하는 게시물 API 종류입니다.
+ */
+enum Operation {
+
+    LIST("GET /api/articles"),
+    READ("GET /api/articles/{id}"),
+    CREATE("POST /api/articles"),
+    UPDATE("PUT /api/articles/{id}"),
+    DELETE("DELETE /api/articles/{id}");
+
+    private final String endpoint;
+
+    Operation(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+}
@@ -3,9 +3,13 @@ package com.adam9e96.BlogStudy;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing // created_at, updated_at 자동 업데이트
+@EnableScheduling // 게시물 조회수 주기적 반영 등 @Scheduled 작업 실행
+@EnableAsync // @Async 작업은 applicationTaskExecutor 에서 실행 (virtual 프로필에서는 가상 스레드)
 public class BlogStudyApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,131 @@
+package com.adam9e96.BlogStudy.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 블로그 기능 관련 설정을 담는 프로퍼티 클래스입니다.
+ * application.properties 또는 application.yml 파일에서 'blog'로 시작하는 설정 값을 매핑합니다.
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "blog") // 'blog' 접두어가 있는 프로퍼티를 이 클래스의 필드에 바인딩
+public class BlogProperties {
+
+    /**
+     * 글 목록 페이지 조회 설정
+     */
+    private final Page page = new Page();
+
+    /**
+     * 게시물 대량 등록 설정
+     */
+    private final BulkImport bulkImport = new BulkImport();
+
+    /**
+     * 패스워드 해시(BCrypt) 설정
+     */
+    private final Password password = new Password();
+
+    /**
+     * 게시물 스냅샷 캐시 설정
+     */
+    private final ArticleCache articleCache = new ArticleCache();
+
+    /**
+     * 게시물 전체 내보내기 설정
+     */
+    private final Export export = new Export();
+
+    @Setter
+    @Getter
+    public static class Page {
+
+        /**
+         * 요청에 페이지 크기가 없을 때 사용할 기본 크기
+         */
+        private int defaultSize = 20;
+
+        /**
+         * 한 페이지에 담을 수 있는 최대 글 수. 이보다 큰 크기를 요청하면 이 값으로 제한합니다.
+         */
+        private int maxSize = 100;
+
+        /**
+         * 검색 결과에서 넘겨 볼 수 있는 최대 위치 (페이지 번호와 크기로 정해지는 마지막 결과 순번).
+         * 뒤 페이지일수록 앞의 결과를 모두 골라내야 하므로, 이보다 뒤의 페이지는 요청을 거절합니다.
+         */
+        private int maxSearchResults = 1000;
+    }
+
+    @Setter
+    @Getter
+    public static class BulkImport {
+
+        /**
+         * 한 트랜잭션에서 저장할 게시물 수.
+         * 이 수만큼 저장한 뒤 flush/clear 하고 커밋하므로 영속성 컨텍스트가 커지지 않습니다.
+         */
+        private int batchSize = 1000;
+    }
+
+    @Setter
+    @Getter
+    public static class Password {
+
+        /**
+         * BCrypt 비용 인자(log2 반복 횟수, 4 ~ 31). 1 증가할 때마다 해시 시간이 두 배가 됩니다.
+         * 이미 저장된 해시는 해시에 기록된 비용으로 검증하므로 값을 바꿔도 기존 사용자는 로그인할 수 있습니다.
+         */
+        private int strength = 10;
+
+        /**
+         * 해시 전용 스레드 수. 0 이하이면 사용 가능한 CPU 수를 사용합니다.
+         */
+        private int threads = 0;
+
+        /**
+         * 해시 스레드가 모두 사용 중일 때 대기할 수 있는 최대 작업 수. 넘치는 요청은 바로 거절합니다.
+         */
+        private int queueCapacity = 64;
+
+        /**
+         * 요청 스레드가 해시 결과를 기다리는 최대 시간
+         */
+        private Duration timeout = Duration.ofSeconds(5);
+
+        /**
+         * 시작 시 해시 속도를 측정할 때 계산할 해시 수. 0 이면 측정하지 않습니다.
+         */
+        private int benchmarkIterations = 3;
+    }
+
+    @Setter
+    @Getter
+    public static class ArticleCache {
+
+        /**
+         * 게시물을 수정/삭제하고 캐시를 무효화한 뒤, 같은 게시물을 한 번 더 무효화할 때까지의 시간.
+         * 수정이 커밋되기 전에 데이터베이스를 읽은 캐시 미스 조회는 첫 번째 무효화 뒤에 이전 스냅샷을 저장할 수 있는데,
+         * 그 조회가 이 시간 안에 끝났다면 두 번째 무효화가 이전 스냅샷을 지웁니다.
+         */
+        private Duration secondEvictDelay = Duration.ofSeconds(1);
+    }
+
+    @Setter
+    @Getter
+    public static class Export {
+
+        /**
+         * 내보내기 응답을 모두 쓸 때까지 기다리는 최대 시간.
+         * 응답 본문은 비동기로 쓰이므로 지정하지 않으면 서블릿 컨테이너의 기본 비동기 제한 시간(보통 30초)에 끊깁니다.
+         * 0 이하이면 제한하지 않습니다.
+         */
+        private Duration timeout = Duration.ofMinutes(10);
+    }
+}
@@ -0,0 +1,193 @@
+package com.adam9e96.BlogStudy.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 패스워드 해시와 검증을 CPU 수만큼의 전용 스레드에서 실행하는 {@link PasswordEncoder} 입니다.
+ *
+ * <p>
+ * BCrypt 는 의도적으로 느린(수십 ms) CPU 작업이므로 요청 스레드에서 바로 실행하면 회원 가입이나 로그인이 몰릴 때
+ * 톰캣 작업 스레드와 CPU 를 모두 차지해 게시물 조회까지 느려집니다.
+ * 이 클래스는 해시 작업을 크기가 정해진 스레드 풀과 대기열에 넘기고, 대기열이 가득 차면 기다리지 않고
+ * {@link PasswordHashingBusyException} 을 던집니다. 그래서 동시에 해시를 기다리는 요청 수가
+ * 스레드 수 + 대기열 크기로 제한되고, 나머지 요청 스레드와 CPU 는 다른 요청을 처리할 수 있습니다.
+ * </p>
+ *
+ * <p>
+ * 아래 메트릭을 기록합니다.
+ * <ul>
+ *   <li>{@code executor.*{name=password.hashing}} - 실행 중인 작업 수, 대기열 길이, 완료한 작업 수</li>
+ *   <li>{@code password.hashing{operation=encode|matches}} - 요청 스레드가 결과를 받기까지 걸린 시간 (대기 포함)</li>
+ *   <li>{@code password.hashing.rejected{operation, reason=queue_full|timeout}} - 거절한 요청 수</li>
+ *   <li>{@code password.hashing.benchmark} - 시작 시 측정한 해시 1회 소요 시간(ms)</li>
+ * </ul>
+ * </p>
+ */
+@Slf4j
+public final class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private static final String EXECUTOR_NAME = "password.hashing";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutNanos;
+    private final int benchmarkIterations;
+    private final MeterRegistry meterRegistry;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private volatile double benchmarkMillis = Double.NaN;
+
+    /**
+     * @param delegate      실제 해시를 계산할 인코더
+     * @param properties    스레드 수, 대기열 크기, 대기 시간 설정
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public BoundedPasswordEncoder(PasswordEncoder delegate, BlogProperties.Password properties,
+                                  MeterRegistry meterRegistry) {
+        int threads = properties.getThreads() > 0
+                ? properties.getThreads()
+                : Runtime.getRuntime().availableProcessors();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-hash-");
+        threadFactory.setDaemon(true);
+
+        this.delegate = delegate;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity())),
+                threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutNanos = properties.getTimeout().toNanos();
+        this.benchmarkIterations = properties.getBenchmarkIterations();
+        this.meterRegistry = meterRegistry;
+
+        new ExecutorServiceMetrics(executor, EXECUTOR_NAME, List.of()).bindTo(meterRegistry);
+        this.encodeTimer = timer("encode");
+        this.matchesTimer = timer("matches");
+        // final 클래스이므로 생성자에서 this 를 넘겨도 덜 초기화된 하위 클래스 객체가 노출되지 않는다.
+        Gauge.builder("password.hashing.benchmark", this, encoder -> encoder.benchmarkMillis)
+                .description("시작 시 측정한 패스워드 해시 1회 소요 시간")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return call("encode", encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return call("matches", matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword); // 해시 문자열만 확인하므로 전용 스레드가 필요 없음
+    }
+
+    /**
+     * 애플리케이션이 시작되면 해시 스레드에서 해시 시간을 측정해 로그와 {@code password.hashing.benchmark} 게이지로 남깁니다.
+     * <p>
+     * 비용 인자를 정할 때 참고합니다. 로그인 한 번에 해시 1회가 필요하므로
+     * 스레드 수 × 1000 / (ms/해시) 가 초당 처리할 수 있는 최대 로그인 수입니다.
+     * </p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void benchmark() {
+        if (benchmarkIterations <= 0) {
+            return;
+        }
+        try {
+            double millis = executor.submit(() -> {
+                delegate.encode("benchmark"); // 첫 실행은 JIT 컴파일 전이므로 측정에서 제외
+                long start = System.nanoTime();
+                for (int i = 0; i < benchmarkIterations; i++) {
+                    delegate.encode("benchmark");
+                }
+                return (System.nanoTime() - start) / 1_000_000.0 / benchmarkIterations;
+            }).get();
+            benchmarkMillis = millis;
+            int threads = executor.getCorePoolSize();
+            log.info("Password hashing benchmark: {} ms/hash, threads={}, max ~{} hashes/s",
+                    String.format("%.1f", millis), threads, Math.round(threads * 1000 / millis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.warn("Password hashing benchmark failed", e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 작업을 해시 스레드에 넘기고 결과를 기다립니다.
+     *
+     * @throws PasswordHashingBusyException 대기열이 가득 찼거나 제한 시간 안에 끝나지 않은 경우
+     */
+    private <T> T call(String operation, Timer timer, Callable<T> task) {
+        long start = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected(operation, "queue_full");
+            throw new PasswordHashingBusyException("password hashing queue is full", e);
+        }
+
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected(operation, "timeout");
+            throw new PasswordHashingBusyException("password hashing timed out", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException("interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException; // 인코더가 던진 예외(예: 잘못된 해시 형식)는 그대로 전달
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(String operation) {
+        return Timer.builder(EXECUTOR_NAME)
+                .description("패스워드 해시 요청이 결과를 받기까지 걸린 시간 (대기 포함)")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private void rejected(String operation, String reason) {
+        Counter.builder("password.hashing.rejected")
+                .description("해시 스레드가 부족해 거절한 패스워드 해시 요청 수")
+                .tag("operation", operation)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,31 @@
+package com.adam9e96.BlogStudy.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 스프링 캐시 추상화 설정 클래스입니다.
+ *
+ * <p>
+ * 캐시 구현체는 스프링 부트 자동 구성이 {@code spring.cache.*} 프로퍼티를 보고 만듭니다.
+ * 기본값은 로컬 Caffeine 캐시이며, {@code spring.cache.type} 과 의존성만 바꾸면
+ * 서비스 코드({@code @Cacheable}, {@code @CacheEvict}) 수정 없이 Redis 등 공유 캐시로 교체할 수 있습니다.
+ * </p>
+ *
+ * <p>
+ * 캐시 어드바이스의 순서를 트랜잭션 어드바이스({@link Ordered#LOWEST_PRECEDENCE})보다 앞에 두어
+ * 트랜잭션 메서드의 {@code @CacheEvict} 가 커밋이 끝난 뒤에 실행되도록 합니다.
+ * 커밋 전에 무효화하면 다른 요청이 커밋 전 데이터를 다시 캐시에 올릴 수 있기 때문입니다.
+ * </p>
+ *
+ * <p>
+ * 캐시별 적중/실패({@code cache.gets}), 제거({@code cache.evictions}) 메트릭은 액추에이터가 자동으로 등록합니다.
+ * {@code @Cacheable} 은 캐시의 로더를 쓰지 않고 미스가 나면 메서드를 직접 실행하므로 {@code cache.load.duration} 은 비어 있습니다.
+ * 게시물 스냅샷을 읽는 시간은 {@code blog.article.snapshot.load} 타이머로 따로 기록합니다.
+ * </p>
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+}
@@ -0,0 +1,30 @@
+package com.adam9e96.BlogStudy.config;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.io.Serial;
+
+/**
+ * 패스워드 해시 전용 스레드와 대기열이 가득 찼거나 제한 시간 안에 해시를 끝내지 못했을 때 발생하는 예외입니다.
+ *
+ * <p>
+ * 로그인 중에 발생하면 {@link AuthenticationServiceException} 이므로 인증 실패로 처리되어 로그인 페이지로 돌아가고,
+ * 회원 가입 중에 발생하면 503 Service Unavailable 로 응답합니다.
+ * </p>
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class PasswordHashingBusyException extends AuthenticationServiceException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+
+    public PasswordHashingBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
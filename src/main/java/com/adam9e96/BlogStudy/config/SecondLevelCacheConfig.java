@@ -0,0 +1,45 @@
+package com.adam9e96.BlogStudy.config;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+
+/**
+ * Hibernate 2차 캐시 설정 클래스입니다. ({@code l2cache} 프로필에서만 사용)
+ *
+ * <p>
+ * 로컬 Caffeine JCache 구현으로 캐시 매니저를 만들어 Hibernate 에 넘깁니다.
+ * 영역별 크기와 만료 시간은 클래스패스의 {@code hibernate-jcache.conf} 에서 읽습니다.
+ * Hibernate 의 {@code hibernate.javax.cache.uri} 를 쓰지 않는 이유는, 이 값을 실제 파일 URL 로 바꿔 넘기기 때문에
+ * 실행 가능한 jar 안에서는 Caffeine 이 설정 파일을 읽지 못하고 기본 설정으로 캐시를 만들기 때문입니다.
+ * </p>
+ *
+ * <p>
+ * 나머지 설정(캐시 사용 여부, 통계)은 {@code application-l2cache.properties} 에 있으며,
+ * 영역별 적중/실패 수는 액추에이터가 {@code hibernate.second.level.cache.*} 메트릭으로 등록합니다.
+ * </p>
+ */
+@Profile("l2cache")
+@Configuration
+public class SecondLevelCacheConfig {
+
+    private static final URI CACHE_CONFIG = URI.create("classpath:hibernate-jcache.conf");
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        return Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(CACHE_CONFIG, getClass().getClassLoader());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+}
@@ -1,6 +1,9 @@
 package com.adam9e96.BlogStudy.config;
 
+import com.adam9e96.BlogStudy.config.jwt.TokenAuthenticationMetrics;
 import com.adam9e96.BlogStudy.config.jwt.TokenProvider;
+import com.adam9e96.BlogStudy.config.jwt.TokenValidationResult;
+import com.adam9e96.BlogStudy.config.jwt.VerifiedTokenCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,6 +15,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * HTTP 요청이 들어올 때마다 실행되는 커스텀 토큰 인증 필터 클래스
@@ -22,8 +26,12 @@ import java.io.IOException;
 @Slf4j
 public class TokenAuthenticationFilter extends OncePerRequestFilter {
     private final TokenProvider tokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenAuthenticationMetrics tokenAuthenticationMetrics;
     private final static String HEADER_AUTHORIZATION = "Authorization";
     private final static String TOKEN_PREFIX = "Bearer ";
+    // 인증 실패 DEBUG 로그는 이 값 중 1건만 남김 (로그 I/O 를 줄이기 위한 샘플링)
+    private final static int DEBUG_LOG_SAMPLE_RATE = 100;
 
     @Override
     protected void doFilterInternal(
@@ -34,13 +42,11 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
         // ==== 토큰 추출 ===== //
         // 요청 헤더의 Authorization 키의 값 조회
         // HTTP 요청 헤더에서 "Authorization" 값만 가져옴
+        // 헤더와 토큰은 자격 증명이므로 로그로 남기지 않음
         String authorizationHeader = request.getHeader(HEADER_AUTHORIZATION);
-        log.info("Authorization Header: {}", authorizationHeader);  // 헤더 로그
 
         // 가져온 값에서 접두사 제거
         String token = getAccessToken(authorizationHeader);
-        log.info("Extracted Token: {}", token);  // 추출된 토큰 로그
-
 
         // 가져온 토큰이 유효한지 확인하고, 유효한 때는 인증 정보 설정
         // === 토큰 검증 및 인증 === //
@@ -48,18 +54,36 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
          * 1. 추출한 토큰이 유효한지 검사
          * 2. 유효한 토큰이면 사용자 정보를 추출하여 Authentication 객체 생성
          * 3. SecurityContextHolder에 인증 정보를 저장하여 이후 요청 처리과정에서 인증된 사용자임을 알림
+         * 결과는 로그 대신 카운터(TokenAuthenticationMetrics)로 기록
          */
-        if (tokenProvider.validToken(token)) {
-            Authentication authentication = tokenProvider.getAuthentication(token);
+        // 이미 검증된 토큰이면 캐시된 인증 정보를 그대로 사용 (캐시 사용 시에만)
+        Authentication cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            SecurityContextHolder.getContext().setAuthentication(cached);
+            tokenAuthenticationMetrics.accepted();
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 서명 검증과 클레임 추출을 한 번의 파싱으로 처리
+        TokenValidationResult result = tokenProvider.verify(token);
+        if (result.isValid()) {
+            Authentication authentication = tokenProvider.getAuthentication(token, result.getClaims());
             SecurityContextHolder.getContext().setAuthentication(authentication);
-            log.info("Valid Token. Authentication successful");
+            verifiedTokenCache.put(token, authentication, result.getClaims().getExpiration());
+            tokenAuthenticationMetrics.accepted();
         } else {
-            log.info("Invalid Token. Authentication failed");
+            tokenAuthenticationMetrics.rejected(result.getStatus());
+            if (log.isDebugEnabled() && ThreadLocalRandom.current().nextInt(DEBUG_LOG_SAMPLE_RATE) == 0) {
+                log.debug("JWT authentication rejected: reason={}, method={}, uri={} (sampled 1/{})",
+                        result.getStatus(), request.getMethod(), request.getRequestURI(), DEBUG_LOG_SAMPLE_RATE);
+            }
         }
         filterChain.doFilter(request, response);
     }
 
-    private String getAccessToken(String authorizationHeader) {
+    // 벤치마크(src/jmh)에서 호출할 수 있도록 패키지 범위로 공개
+    String getAccessToken(String authorizationHeader) {
         // "Bearer " 접두사 제거 하여 실제 토큰만 추출
         if (authorizationHeader != null && authorizationHeader.startsWith(TOKEN_PREFIX)) {
             return authorizationHeader.substring(TOKEN_PREFIX.length());
@@ -0,0 +1,23 @@
+package com.adam9e96.BlogStudy.config;
+
+import com.adam9e96.BlogStudy.jfr.ViewRenderEventInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 스프링 MVC 설정 클래스입니다.
+ *
+ * <p>
+ * 템플릿 렌더링 시간을 JFR 이벤트로 남기는 인터셉터를 등록합니다. (/api/** 는 뷰를 렌더링하지 않으므로 제외)
+ * </p>
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ViewRenderEventInterceptor())
+                .excludePathPatterns("/api/**");
+    }
+}
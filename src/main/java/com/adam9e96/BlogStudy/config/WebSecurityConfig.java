@@ -1,9 +1,16 @@
 package com.adam9e96.BlogStudy.config;
 
+import com.adam9e96.BlogStudy.config.jwt.TokenAuthenticationMetrics;
+import com.adam9e96.BlogStudy.config.jwt.TokenProvider;
+import com.adam9e96.BlogStudy.config.jwt.VerifiedTokenCache;
 import com.adam9e96.BlogStudy.service.UserDetailService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -11,8 +18,13 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
 import static org.springframework.boot.autoconfigure.security.servlet.PathRequest.toH2Console;
@@ -32,9 +44,83 @@ public class WebSecurityConfig {
                 .requestMatchers(new AntPathRequestMatcher("/static/**"));
     }
 
-    // 특정 HTTP 요청에 대한 웹 기반 보안 구성
+    /**
+     * /actuator/** 요청을 위한 보안 구성
+     * <p>
+     * 프로메테우스가 인증 없이 수집할 수 있도록 health 와 prometheus 엔드포인트는 허용하고,
+     * 나머지 엔드포인트는 로그인한 사용자만 볼 수 있습니다. 로그인 페이지로 이동시키지 않고 401 을 반환합니다.
+     * 운영 환경에서는 management.server.port 로 관리 포트를 분리해 외부에 열지 않는 것을 권장합니다.
+     * </p>
+     */
+    @Bean
+    @Order(0)
+    public SecurityFilterChain actuatorFilterChain(HttpSecurity http) throws Exception {
+        return
+                http
+                        .securityMatcher(EndpointRequest.toAnyEndpoint())
+                        .authorizeHttpRequests(auth -> auth
+                                .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
+                                .anyRequest().authenticated())
+                        .exceptionHandling(exceptionHandling -> exceptionHandling
+                                .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+                        .formLogin(AbstractHttpConfigurer::disable)
+                        .httpBasic(AbstractHttpConfigurer::disable)
+                        .logout(AbstractHttpConfigurer::disable)
+                        .csrf(AbstractHttpConfigurer::disable)
+                        .build();
+    }
+
+    /**
+     * /api/** 요청을 위한 무상태(stateless) 보안 구성
+     * <p>
+     * JWT 토큰 인증 필터를 {@link UsernamePasswordAuthenticationFilter} 앞에 추가하고,
+     * 세션을 만들지 않으며 인증 정보를 세션에 저장하지도 않습니다.
+     * 그래서 API 요청은 세션 저장소를 사용하지 않고, 스티키 세션 없이 여러 인스턴스로 확장할 수 있습니다.
+     * </p>
+     * <p>
+     * 같은 출처의 타임리프 화면(article.js)이 호출하는 경우를 위해, 폼 로그인으로 이미 만들어진 세션이 있으면
+     * 인증 정보를 읽기만 합니다. 세션을 새로 만들거나 쓰지는 않습니다.
+     * </p>
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain apiFilterChain(HttpSecurity http,
+                                              TokenProvider tokenProvider,
+                                              VerifiedTokenCache verifiedTokenCache,
+                                              TokenAuthenticationMetrics tokenAuthenticationMetrics)
+            throws Exception {
+        // 기존 세션은 읽기만 하고 세션을 새로 만들지 않는 저장소 (명시적으로 저장하는 곳이 없으므로 쓰기도 없음)
+        HttpSessionSecurityContextRepository securityContextRepository = new HttpSessionSecurityContextRepository();
+        securityContextRepository.setAllowSessionCreation(false);
+
+        return
+                http
+                        .securityMatcher(new AntPathRequestMatcher("/api/**"))
+                        .authorizeHttpRequests(auth -> auth // 인증, 인가 설정
+                                .requestMatchers(new AntPathRequestMatcher("/api/token")).permitAll()
+                                .anyRequest().authenticated())
+                        .sessionManagement(session -> session // 세션을 만들지 않음
+                                .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                        .securityContext(securityContext -> securityContext
+                                .securityContextRepository(securityContextRepository))
+                        // 헤더의 토큰을 확인하는 필터 추가
+                        .addFilterBefore(new TokenAuthenticationFilter(tokenProvider, verifiedTokenCache,
+                                        tokenAuthenticationMetrics),
+                                UsernamePasswordAuthenticationFilter.class)
+                        // 인증되지 않은 API 요청은 로그인 페이지로 보내지 않고 401 반환
+                        .exceptionHandling(exceptionHandling -> exceptionHandling
+                                .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+                        .formLogin(AbstractHttpConfigurer::disable)
+                        .httpBasic(AbstractHttpConfigurer::disable)
+                        .logout(AbstractHttpConfigurer::disable)
+                        .csrf(AbstractHttpConfigurer::disable) // csrf 비활성화
+                        .build();
+    }
+
+    // 특정 HTTP 요청에 대한 웹 기반 보안 구성 (타임리프 화면용 폼 로그인)
     // authorizeRequests() 대신 authorizeHttpRequests() 사용
     @Bean
+    @Order(2)
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         return
                 http
@@ -59,19 +145,21 @@ public class WebSecurityConfig {
 
     @Bean
     public AuthenticationManager authenticationManager(HttpSecurity http,
-                                                       BCryptPasswordEncoder bCryptPasswordEncoder,
+                                                       PasswordEncoder passwordEncoder,
                                                        UserDetailService userDetailService)
             throws Exception {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailService); // 사용자 정보 가져오는 서비스 설정
-        authProvider.setPasswordEncoder(bCryptPasswordEncoder); // 패스워드 인코더 설정
+        authProvider.setPasswordEncoder(passwordEncoder); // 패스워드 인코더 설정 (검증도 해시 전용 스레드에서 실행)
         return new ProviderManager(authProvider);
     }
 
     // 패스워드 인코더로 사용할 빈 등록
+    // BCrypt 해시는 요청 스레드가 아닌 크기가 정해진 전용 스레드 풀에서 계산
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(BlogProperties blogProperties, MeterRegistry meterRegistry) {
+        BlogProperties.Password password = blogProperties.getPassword();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(password.getStrength()), password, meterRegistry);
     }
 
 }
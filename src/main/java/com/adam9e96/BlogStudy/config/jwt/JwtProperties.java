@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 /**
  * JWT 관련 설정을 담는 프로퍼티 클래스입니다.
  * application.properties 또는 application.yml 파일에서 'jwt'로 시작하는 설정 값을 매핑합니다.
@@ -26,4 +28,60 @@ public class JwtProperties {
      * 이 키는 토큰의 무결성과 신뢰성을 보장하는 데 사용되므로 안전하게 관리해야 합니다.
      */
     private String secretKey;
+
+    /**
+     * 검증이 끝난 토큰의 인증 정보를 캐시할지에 대한 설정입니다.
+     */
+    private final Cache cache = new Cache();
+
+    /**
+     * 만료된 리프레시 토큰 정리 작업 설정입니다.
+     */
+    private final RefreshTokenPurge refreshTokenPurge = new RefreshTokenPurge();
+
+    /**
+     * 교체된 직전 리프레시 토큰이 이 시간 안에 다시 사용되면 동시에 보낸 갱신 요청으로 보고 거절만 합니다.
+     * 이 시간이 지난 뒤에 다시 사용되면 토큰이 탈취된 것으로 보고 사용자의 리프레시 토큰을 폐기합니다.
+     */
+    private Duration refreshTokenReuseGrace = Duration.ofSeconds(10);
+
+    @Setter
+    @Getter
+    public static class Cache {
+
+        /**
+         * 캐시 사용 여부. 기본값은 사용하지 않음(false)입니다.
+         */
+        private boolean enabled = false;
+
+        /**
+         * 캐시에 보관할 최대 토큰 수
+         */
+        private long maximumSize = 10_000;
+    }
+
+    @Setter
+    @Getter
+    public static class RefreshTokenPurge {
+
+        /**
+         * 정리 작업 실행 간격 (이전 실행이 끝난 시점부터)
+         */
+        private Duration interval = Duration.ofHours(1);
+
+        /**
+         * 한 트랜잭션에서 삭제할 최대 행 수. 작을수록 잠금을 짧게 잡습니다.
+         */
+        private int batchSize = 500;
+
+        /**
+         * 배치 사이에 쉬는 시간. 다른 트랜잭션이 잠금을 얻을 기회를 줍니다.
+         */
+        private Duration pause = Duration.ofMillis(50);
+
+        /**
+         * 한 번 실행할 때 처리할 최대 배치 수. 남은 행은 다음 실행에서 삭제합니다.
+         */
+        private int maxBatchesPerRun = 200;
+    }
 }
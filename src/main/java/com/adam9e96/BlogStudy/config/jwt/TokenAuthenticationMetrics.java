@@ -0,0 +1,62 @@
+package com.adam9e96.BlogStudy.config.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 토큰 인증 결과를 Micrometer 카운터로 기록하는 클래스입니다.
+ * <p>
+ * 요청마다 로그를 남기는 대신 아래 카운터를 증가시키며, {@code /actuator/metrics} 로 조회할 수 있습니다.
+ * <ul>
+ *   <li>{@code jwt.authentication.accepted} - 인증에 성공한 토큰 수</li>
+ *   <li>{@code jwt.authentication.rejected{reason=missing|expired|bad_signature|malformed}} - 원인별 인증 실패 수</li>
+ * </ul>
+ * 카운터는 생성 시점에 미리 등록해 두므로 요청 처리 중에는 레지스트리를 조회하지 않습니다.
+ * </p>
+ */
+@Component
+public class TokenAuthenticationMetrics {
+
+    private final Counter accepted;
+    private final Map<TokenValidationResult.Status, Counter> rejected =
+            new EnumMap<>(TokenValidationResult.Status.class);
+
+    public TokenAuthenticationMetrics(MeterRegistry meterRegistry) {
+        this.accepted = Counter.builder("jwt.authentication.accepted")
+                .description("인증에 성공한 JWT 토큰 수")
+                .register(meterRegistry);
+
+        for (TokenValidationResult.Status status : TokenValidationResult.Status.values()) {
+            if (status == TokenValidationResult.Status.VALID) {
+                continue;
+            }
+            rejected.put(status, Counter.builder("jwt.authentication.rejected")
+                    .description("원인별 JWT 토큰 인증 실패 수")
+                    .tag("reason", status.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 인증에 성공한 토큰 수를 1 증가시킵니다.
+     */
+    public void accepted() {
+        accepted.increment();
+    }
+
+    /**
+     * 인증에 실패한 토큰 수를 실패 원인별로 1 증가시킵니다.
+     *
+     * @param status 검증 실패 원인
+     */
+    public void rejected(TokenValidationResult.Status status) {
+        Counter counter = rejected.get(status);
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+}
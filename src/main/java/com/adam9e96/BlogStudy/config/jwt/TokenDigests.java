@@ -0,0 +1,35 @@
+package com.adam9e96.BlogStudy.config.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 문자열의 SHA-256 다이제스트를 계산하는 유틸리티 클래스입니다.
+ * <p>
+ * 토큰 원문 대신 고정 길이(64자)의 16진수 다이제스트를 키로 사용하여
+ * 메모리나 저장소에 토큰 원문이 남지 않도록 합니다.
+ * </p>
+ */
+public final class TokenDigests {
+
+    private TokenDigests() {
+    }
+
+    /**
+     * 토큰 문자열의 SHA-256 다이제스트를 16진수 문자열로 반환합니다.
+     *
+     * @param token 토큰 문자열
+     * @return 64자 16진수 다이제스트
+     */
+    public static String sha256Hex(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 자바 플랫폼은 SHA-256 을 지원해야 하므로 발생하지 않음
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,9 +1,17 @@
 package com.adam9e96.BlogStudy.config.jwt;
 
 import com.adam9e96.BlogStudy.domain.User;
+import com.adam9e96.BlogStudy.dto.UserSnapshot;
+import com.adam9e96.BlogStudy.jfr.TokenEvent;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -16,6 +24,7 @@ import java.time.Duration;
 import java.util.Collections;
 import java.util.Date;
 import java.util.Set;
+import java.util.UUID;
 
 /**
  * JWT 토큰을 생성하고 검증하는 클래스
@@ -24,17 +33,73 @@ import java.util.Set;
 @Service
 public class TokenProvider {
 
+    /**
+     * 토큰 종류를 담는 클레임 이름. 리프레시 토큰에만 {@value #REFRESH_TOKEN_TYPE} 값으로 담깁니다.
+     */
+    public static final String TOKEN_TYPE_CLAIM = "token_type";
+
+    /**
+     * 리프레시 토큰의 {@value #TOKEN_TYPE_CLAIM} 클레임 값
+     */
+    public static final String REFRESH_TOKEN_TYPE = "refresh";
+
+    /**
+     * 리프레시 토큰 family id 를 담는 클레임 이름.
+     * 처음 발급한 리프레시 토큰과 그 토큰을 교체해 발급한 토큰들은 모두 같은 family id 를 가집니다.
+     */
+    public static final String FAMILY_CLAIM = "fid";
+
     private final JwtProperties jwtProperties;
 
     /**
-     * 비밀 키를 생성하는 메서드.
-     * properties 파일에 설정된 비밀 키 문자열을 바이트 배열로 변환한 후 SecretKey 객체를 생성하여 반환
+     * 서명 키와 파서를 묶어 둔 불변 객체.
+     * 최초 사용 시 한 번 생성되며, 비밀 키 설정이 바뀐 경우에만 다시 생성됩니다.
+     */
+    private volatile SigningKey signingKey;
+
+    /**
+     * 서명 키와 파서를 한 번에 보관하는 불변 레코드.
+     * SecretKey 와 JwtParser 는 모두 스레드 안전하므로 요청 간에 공유할 수 있습니다.
+     *
+     * @param secret 키를 만들 때 사용한 비밀 키 문자열 (설정 변경 감지용)
+     * @param key    HMAC-SHA 서명 키
+     * @param parser 서명 키로 검증하도록 미리 만들어 둔 파서
+     */
+    private record SigningKey(String secret, SecretKey key, JwtParser parser) {
+
+        static SigningKey of(String secret) {
+            // 비밀 키를 byte 배열로 변환하고 SecretKey 객체를 생성
+            SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+            return new SigningKey(secret, key, Jwts.parser().verifyWith(key).build());
+        }
+    }
+
+    /**
+     * 서명 키와 파서를 반환하는 메서드.
+     * <p>
+     * properties 파일에 설정된 비밀 키 문자열로 만든 키를 캐시해 두고 재사용합니다.
+     * 설정이 다시 바인딩되어 비밀 키 문자열이 바뀐 경우에만 키와 파서를 새로 만듭니다.
+     * </p>
      *
-     * @return SecretKey 객체
+     * @return 현재 설정에 맞는 SigningKey 객체
      */
-    private SecretKey getSecretKey() {
-        // 비밀 키를 byte 배열로 변환하고 SecretKey 객체를 생성
-        return Keys.hmacShaKeyFor(jwtProperties.getSecretKey().getBytes(StandardCharsets.UTF_8));
+    private SigningKey signingKey() {
+        String secret = jwtProperties.getSecretKey();
+        SigningKey current = signingKey;
+        if (current == null || !current.secret().equals(secret)) {
+            current = SigningKey.of(secret);
+            signingKey = current;
+        }
+        return current;
+    }
+
+    /**
+     * 애플리케이션 시작 시 서명 키와 파서를 미리 만들어 둡니다.
+     * 첫 요청에서 키를 생성하는 비용을 없애고, 잘못된 비밀 키 설정을 기동 시점에 발견할 수 있습니다.
+     */
+    @PostConstruct
+    void init() {
+        signingKey();
     }
 
     /**
@@ -45,8 +110,48 @@ public class TokenProvider {
      * @return 생성된 JWT 토큰 문자열
      */
     public String generateToken(User user, Duration expiredAt) {
+        return generateToken(UserSnapshot.from(user), expiredAt);
+    }
+
+    /**
+     * JWT 토큰을 생성하는 메서드 (캐시된 사용자 스냅샷으로 발급)
+     *
+     * @param user      토큰을 발급할 사용자 스냅샷
+     * @param expiredAt 토큰의 만료 기간
+     * @return 생성된 JWT 토큰 문자열
+     */
+    public String generateToken(UserSnapshot user, Duration expiredAt) {
         Date now = new Date();
-        return makeToken(new Date(now.getTime() + expiredAt.toMillis()), user);
+        return makeToken(new Date(now.getTime() + expiredAt.toMillis()), user, null);
+    }
+
+    /**
+     * 리프레시 토큰을 생성하는 메서드
+     * <p>
+     * 액세스 토큰과 같은 클레임에 토큰 종류({@value #TOKEN_TYPE_CLAIM})와 family id({@value #FAMILY_CLAIM})를 더합니다.
+     * 교체된 이전 토큰이 다시 사용되었을 때 같은 family 인지 확인하는 데 사용합니다.
+     * </p>
+     *
+     * @param user      토큰을 발급할 사용자 객체
+     * @param familyId  리프레시 토큰 family id
+     * @param expiredAt 토큰의 만료 기간
+     * @return 생성된 JWT 토큰 문자열
+     */
+    public String generateRefreshToken(User user, String familyId, Duration expiredAt) {
+        return generateRefreshToken(UserSnapshot.from(user), familyId, expiredAt);
+    }
+
+    /**
+     * 리프레시 토큰을 생성하는 메서드 (캐시된 사용자 스냅샷으로 발급)
+     *
+     * @param user      토큰을 발급할 사용자 스냅샷
+     * @param familyId  리프레시 토큰 family id
+     * @param expiredAt 토큰의 만료 기간
+     * @return 생성된 JWT 토큰 문자열
+     */
+    public String generateRefreshToken(UserSnapshot user, String familyId, Duration expiredAt) {
+        Date now = new Date();
+        return makeToken(new Date(now.getTime() + expiredAt.toMillis()), user, familyId);
     }
 
     // JWT 토큰 생성 메서드
@@ -54,13 +159,15 @@ public class TokenProvider {
     /**
      * JWT 토큰을 실제로 생성하는 메서드
      *
-     * @param expiry 토큰의 만료날짜
-     * @param user   토큰을 발급할 사용자 객체
+     * @param expiry   토큰의 만료날짜
+     * @param user     토큰을 발급할 사용자 스냅샷
+     * @param familyId 리프레시 토큰 family id, 액세스 토큰이면 {@code null}
      * @return 생성된 JWT 토큰 문자열
      */
-    private String makeToken(Date expiry, User user) {
+    private String makeToken(Date expiry, UserSnapshot user, String familyId) {
+        TokenEvent event = TokenEvent.start(TokenEvent.SIGN);
         Date now = new Date();
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .header()
                 .keyId("typ") // 헤더에 key ID 설정
                 .type("JWT") // 헤더에 타입 설정 (JWT)
@@ -69,13 +176,21 @@ public class TokenProvider {
                 // 내용 iss : adam1123@gmail.com(properties 파일에서 설정한 값)
                 .issuer(jwtProperties.getIssuer())
                 .issuedAt(now) // 내용 iat : 현재 시간
+                .id(UUID.randomUUID().toString()) // 내용 jti : 같은 초에 발급한 토큰도 서로 다르도록
                 .expiration(expiry) // 내용 exp : expiry 멤버 변숫값
-                .subject(user.getEmail()) // 내용 sub : 유저의 이메일
-                .claim("id", user.getId()) // 클레임 id : 유저 ID
+                .subject(user.email()) // 내용 sub : 유저의 이메일
+                .claim("id", user.id()); // 클레임 id : 유저 ID
+        if (familyId != null) {
+            builder.claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE) // 클레임 token_type : refresh
+                    .claim(FAMILY_CLAIM, familyId); // 클레임 fid : 리프레시 토큰 family id
+        }
+        String token = builder
                 // 서명 : 비밀값과 함께 해시 값을 HS256 방식으로 암호화
-                .signWith(getSecretKey(), Jwts.SIG.HS256)
+                .signWith(signingKey().key(), Jwts.SIG.HS256)
 //                .signWith(SignatureAlgorithm.HS256, jwtProperties.getSecretKey()) // 더이상 안씀
                 .compact(); // 최종 토큰 문자열 생성
+        event.finish("SIGNED");
+        return token;
     }
 
     /**
@@ -85,15 +200,43 @@ public class TokenProvider {
      * @return 유요한 토큰이면 true, 그렇지 않으면 false
      */
     public boolean validToken(String token) {
+        return verify(token).isValid();
+    }
+
+    /**
+     * JWT 토큰을 한 번만 파싱하여 서명과 만료 시간을 검증하고, 검증된 클레임을 함께 반환하는 메서드
+     * <p>
+     * 검증에 실패하면 예외를 던지지 않고 실패 원인을 담은 결과를 반환합니다.
+     * 같은 토큰을 다시 파싱하지 않도록 반환된 클레임으로 {@link #getAuthentication(String, Claims)} 등을 호출합니다.
+     * 검증 시간과 결과는 JFR 이벤트({@link TokenEvent})로 남깁니다.
+     * </p>
+     *
+     * @param token 검증할 JWT 토큰 문자열
+     * @return 검증 결과 (성공 시 클레임 포함)
+     */
+    public TokenValidationResult verify(String token) {
+        TokenEvent event = TokenEvent.start(TokenEvent.VERIFY);
+        TokenValidationResult result = parse(token);
+        event.finish(result.getStatus().name());
+        return result;
+    }
+
+    // 서명과 만료 시간을 검증하고, 실패하면 원인을 담은 결과를 반환한다.
+    private TokenValidationResult parse(String token) {
+        if (token == null || token.isBlank()) {
+            return TokenValidationResult.failure(TokenValidationResult.Status.MISSING);
+        }
         try {
-            Jwts.parser()
-                    .verifyWith(getSecretKey()) // 비밀값으로 복호화
-                    .build()
-                    .parseSignedClaims(token); // 토큰 파싱 및 검증
-
-            return true; // 예외가 발생하지 않으면 유효한 토큰
-        } catch (Exception e) { // 복호화 과정에서 에러가 나면 유효하지 않은 토큰
-            return false; // 우효화 하지 않은 토큰
+            Claims claims = signingKey().parser() // 비밀값으로 복호화
+                    .parseSignedClaims(token) // 토큰 파싱 및 검증
+                    .getPayload();
+            return TokenValidationResult.valid(claims);
+        } catch (ExpiredJwtException e) { // 만료된 토큰
+            return TokenValidationResult.failure(TokenValidationResult.Status.EXPIRED);
+        } catch (SecurityException e) { // 서명이 일치하지 않는 토큰
+            return TokenValidationResult.failure(TokenValidationResult.Status.BAD_SIGNATURE);
+        } catch (JwtException | IllegalArgumentException e) { // 형식이 잘못된 토큰
+            return TokenValidationResult.failure(TokenValidationResult.Status.MALFORMED);
         }
     }
 
@@ -104,7 +247,17 @@ public class TokenProvider {
      * @return Authentication 객체
      */
     public Authentication getAuthentication(String token) {
-        Claims claims = getClaims(token);
+        return getAuthentication(token, getClaims(token));
+    }
+
+    /**
+     * 이미 검증된 클레임으로 Authentication 객체를 생성하는 메서드
+     *
+     * @param token  인증에 사용한 JWT 토큰 문자열 (credentials 로 설정)
+     * @param claims {@link #verify(String)} 로 검증된 클레임
+     * @return Authentication 객체
+     */
+    public Authentication getAuthentication(String token, Claims claims) {
         Set<SimpleGrantedAuthority> authorities = Collections.singleton(new
                 SimpleGrantedAuthority("ROLE_USER"));
 
@@ -128,10 +281,32 @@ public class TokenProvider {
      * @return 사용자 ID
      */
     public Long getUserId(String token) {
-        Claims claims = getClaims(token); // 토큰에서 클레임 추출
+        return getUserId(getClaims(token)); // 토큰에서 클레임 추출
+    }
+
+    /**
+     * 이미 검증된 클레임에서 사용자 ID를 추출하는 메서드
+     *
+     * @param claims {@link #verify(String)} 로 검증된 클레임
+     * @return 사용자 ID
+     */
+    public Long getUserId(Claims claims) {
         return claims.get("id", Long.class); // "id" 클레임에서 Long 타입으로 사용자 ID 추출
     }
 
+    /**
+     * 이미 검증된 클레임에서 리프레시 토큰 family id 를 추출하는 메서드
+     *
+     * @param claims {@link #verify(String)} 로 검증된 클레임
+     * @return family id, 리프레시 토큰이 아니거나 family id 가 없으면 {@code null}
+     */
+    public String getRefreshTokenFamily(Claims claims) {
+        if (!REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class))) {
+            return null;
+        }
+        return claims.get(FAMILY_CLAIM, String.class);
+    }
+
 
     /**
      * JWT 토큰에서 사용자 ID를 추출하는 메서드
@@ -140,9 +315,7 @@ public class TokenProvider {
      * @return Claims 객체
      */
     private Claims getClaims(String token) {
-        return Jwts.parser() // 클레임 조회
-                .verifyWith(getSecretKey()) // SecretKey 설정
-                .build()
+        return signingKey().parser() // 클레임 조회
                 .parseSignedClaims(token)
                 .getPayload(); // 클레임 반환
     }
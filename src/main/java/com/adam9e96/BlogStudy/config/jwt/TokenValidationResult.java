@@ -0,0 +1,57 @@
+package com.adam9e96.BlogStudy.config.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 토큰을 한 번 파싱하고 검증한 결과를 담는 불변 객체입니다.
+ * <p>
+ * 검증에 성공하면 서명이 확인된 {@link Claims} 를 함께 담고,
+ * 실패하면 실패 원인({@link Status})만 담습니다.
+ * 호출하는 쪽은 같은 토큰을 다시 파싱하지 않고 이 결과에서 클레임을 꺼내 사용합니다.
+ * </p>
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TokenValidationResult {
+
+    /**
+     * 토큰 검증 결과의 종류
+     */
+    public enum Status {
+        /** 서명과 만료 시간이 모두 유효한 토큰 */
+        VALID,
+        /** 토큰이 전달되지 않음 (null 또는 빈 문자열) */
+        MISSING,
+        /** 만료된 토큰 */
+        EXPIRED,
+        /** 서명이 일치하지 않는 토큰 */
+        BAD_SIGNATURE,
+        /** 형식이 잘못되었거나 지원하지 않는 토큰 */
+        MALFORMED
+    }
+
+    private final Status status;
+
+    /**
+     * 검증된 클레임. 검증에 실패한 경우 {@code null}
+     */
+    private final Claims claims;
+
+    static TokenValidationResult valid(Claims claims) {
+        return new TokenValidationResult(Status.VALID, claims);
+    }
+
+    static TokenValidationResult failure(Status status) {
+        return new TokenValidationResult(status, null);
+    }
+
+    /**
+     * @return 검증에 성공한 토큰이면 true
+     */
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+}
@@ -0,0 +1,135 @@
+package com.adam9e96.BlogStudy.config.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증이 끝난 토큰의 {@link Authentication} 을 보관하는 인메모리 캐시입니다.
+ * <p>
+ * 같은 액세스 토큰으로 반복해서 들어오는 요청이 매번 HS256 검증을 하지 않도록 합니다.
+ * 키는 토큰 원문이 아닌 SHA-256 다이제스트이며, 각 항목은 토큰의 만료 시간(exp)이 지나면 함께 만료됩니다.
+ * 크기 제한을 넘으면 Caffeine 의 W-TinyLFU 정책으로 제거되고, 적중/실패 횟수를 기록합니다.
+ * </p>
+ *
+ * <p>
+ * {@code jwt.cache.enabled=true} 일 때만 동작하며, 기본값은 사용하지 않음입니다.
+ * 사용하지 않는 경우 {@link #get(String)} 은 항상 {@code null} 을 반환하고 {@link #put} 은 아무 것도 하지 않습니다.
+ * </p>
+ *
+ * <p>
+ * 캐시를 사용하는 경우 {@code cache.gets{cache=jwt.verified-tokens}} 등 Caffeine 캐시 메트릭으로 적중률을 확인할 수 있습니다.
+ * </p>
+ */
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+    /**
+     * 캐시 항목. 인증 정보와 토큰의 만료 시각(epoch millis)을 함께 보관합니다.
+     */
+    private record Entry(Authentication authentication, long expiresAtMillis) {
+    }
+
+    /**
+     * 사용하지 않도록 설정된 경우 {@code null}
+     */
+    private final Cache<String, Entry> cache;
+
+    public VerifiedTokenCache(JwtProperties jwtProperties) {
+        JwtProperties.Cache properties = jwtProperties.getCache();
+        this.cache = properties.isEnabled()
+                ? Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build()
+                : null;
+    }
+
+    /**
+     * @return 캐시 사용 여부
+     */
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * 이미 검증된 토큰의 인증 정보를 조회합니다.
+     *
+     * @param token JWT 토큰 문자열
+     * @return 캐시된 인증 정보, 없거나 만료되었으면 {@code null}
+     */
+    public Authentication get(String token) {
+        if (cache == null || token == null) {
+            return null;
+        }
+        Entry entry = cache.getIfPresent(TokenDigests.sha256Hex(token));
+        return entry != null ? entry.authentication() : null;
+    }
+
+    /**
+     * 검증된 토큰의 인증 정보를 저장합니다. 만료 시간이 없거나 이미 지난 토큰은 저장하지 않습니다.
+     *
+     * @param token          JWT 토큰 문자열
+     * @param authentication 토큰으로 만든 인증 정보
+     * @param expiration     토큰의 만료 시간(exp 클레임)
+     */
+    public void put(String token, Authentication authentication, Date expiration) {
+        if (cache == null || expiration == null || expiration.getTime() <= System.currentTimeMillis()) {
+            return;
+        }
+        cache.put(TokenDigests.sha256Hex(token), new Entry(authentication, expiration.getTime()));
+    }
+
+    /**
+     * @return 적중/실패/제거 횟수 등 캐시 통계, 사용하지 않는 경우 {@link CacheStats#empty()}
+     */
+    public CacheStats stats() {
+        return cache != null ? cache.stats() : CacheStats.empty();
+    }
+
+    /**
+     * @return 현재 캐시에 보관된 항목 수(근사값)
+     */
+    public long size() {
+        return cache != null ? cache.estimatedSize() : 0;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (cache != null) {
+            CaffeineCacheMetrics.monitor(registry, cache, "jwt.verified-tokens");
+        }
+    }
+
+    /**
+     * 항목마다 토큰의 만료 시간까지만 살아 있도록 하는 만료 정책
+     */
+    private static class TokenExpiry implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(String key, Entry entry, long currentTime) {
+            long remainingMillis = entry.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
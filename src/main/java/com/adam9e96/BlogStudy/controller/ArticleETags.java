@@ -0,0 +1,139 @@
+package com.adam9e96.BlogStudy.controller;
+
+import com.adam9e96.BlogStudy.dto.ArticleSnapshot;
+import com.adam9e96.BlogStudy.dto.ArticleSummary;
+import com.adam9e96.BlogStudy.dto.ArticleVersion;
+import com.adam9e96.BlogStudy.service.BlogService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 게시물 응답의 HTTP 검증자(ETag / Last-Modified)를 만드는 유틸리티 클래스입니다.
+ *
+ * <p>
+ * 단건 ETag 는 게시물 id 와 버전({@code @Version})으로 만드는 강한(strong) ETag 이며,
+ * 글이 수정되면 버전이 증가하므로 ETag 도 바뀝니다. 수정 요청의 If-Match 도 같은 형식으로 비교합니다.
+ * 목록 ETag 는 페이지에 담긴 게시물들의 id 와 수정 시간, 다음 커서를 MD5 로 요약한 값입니다.
+ * </p>
+ */
+final class ArticleETags {
+
+    private ArticleETags() {
+    }
+
+    /**
+     * 조건부 요청을 검사한 뒤, 변경된 경우에만 게시물 스냅샷을 반환합니다.
+     *
+     * <p>
+     * If-None-Match 또는 If-Modified-Since 헤더가 있으면 본문을 불러오기 전에 수정 시간만 조회해 비교하고,
+     * 변경되지 않았으면 응답을 304 Not Modified 로 설정하고 {@code null} 을 반환합니다.
+     * 어느 경우든 응답에 ETag 와 Last-Modified 헤더가 설정됩니다.
+     * </p>
+     *
+     * @param request     현재 요청
+     * @param blogService 게시물 서비스
+     * @param id          게시물 id
+     * @return 게시물 스냅샷, 변경되지 않았으면 {@code null} (응답은 이미 304 로 설정됨)
+     */
+    static ArticleSnapshot loadIfModified(WebRequest request, BlogService blogService, Long id) {
+        ArticleSnapshot article = null;
+        Long version;
+        LocalDateTime lastModified;
+        if (isConditional(request)) {
+            ArticleVersion current = blogService.findVersion(id); // 본문 없이 버전과 수정 시간만 조회
+            version = current.version();
+            lastModified = current.lastModified();
+        } else {
+            article = blogService.findSnapshotById(id);
+            version = article.version();
+            lastModified = article.lastModified();
+        }
+
+        if (request.checkNotModified(article(id, version), epochMillis(lastModified))) {
+            return null;
+        }
+        return article != null ? article : blogService.findSnapshotById(id);
+    }
+
+    /**
+     * @return 요청에 If-None-Match 또는 If-Modified-Since 헤더가 있으면 {@code true}
+     */
+    private static boolean isConditional(WebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    /**
+     * @param id      게시물 id
+     * @param version 게시물 버전
+     * @return 따옴표로 감싼 강한 ETag (예: {@code "12-3"})
+     */
+    static String article(Long id, Long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    /**
+     * If-Match 헤더에서 클라이언트가 알고 있는 게시물 버전을 꺼냅니다.
+     *
+     * <p>
+     * 헤더가 없거나 {@code *} 이면 버전을 확인하지 않는다는 뜻으로 {@code null} 을 반환합니다.
+     * If-Match 는 강한 비교를 해야 하므로 약한 ETag({@code W/"..."}), 다른 게시물의 ETag,
+     * 형식이 맞지 않는 값, 여러 ETag 를 나열한 값은 어떤 버전과도 같지 않은 {@code -1} 로 처리되어 412 를 반환하게 됩니다.
+     * </p>
+     *
+     * @param id      게시물 id
+     * @param ifMatch If-Match 헤더 값
+     * @return 클라이언트가 알고 있는 버전, 확인하지 않으면 {@code null}
+     */
+    static Long expectedVersion(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        String prefix = "\"" + id + "-";
+        if (!value.startsWith(prefix) || !value.endsWith("\"") || value.length() <= prefix.length() + 1) {
+            return -1L;
+        }
+        try {
+            return Long.valueOf(value.substring(prefix.length(), value.length() - 1));
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    /**
+     * @param items      목록 한 페이지의 게시물 요약
+     * @param nextCursor 다음 페이지 커서, 마지막 페이지이면 {@code null}
+     * @return 따옴표로 감싼 강한 ETag
+     */
+    static String list(List<ArticleSummary> items, String nextCursor) {
+        StringBuilder source = new StringBuilder();
+        for (ArticleSummary item : items) {
+            source.append(item.id()).append(':').append(epochNanos(item.updatedAt())).append(';');
+        }
+        source.append(nextCursor);
+        return "\"" + DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * @return Last-Modified 헤더에 사용할 epoch millis, 시간이 없으면 {@code -1}
+     */
+    static long epochMillis(LocalDateTime time) {
+        return time != null ? time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+
+    private static long epochNanos(LocalDateTime time) {
+        if (time == null) {
+            return 0;
+        }
+        Instant instant = time.atZone(ZoneId.systemDefault()).toInstant();
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+}
@@ -1,17 +1,41 @@
 package com.adam9e96.BlogStudy.controller;
 
+import com.adam9e96.BlogStudy.config.BlogProperties;
 import com.adam9e96.BlogStudy.domain.Article;
 import com.adam9e96.BlogStudy.dto.AddArticleRequest;
+import com.adam9e96.BlogStudy.dto.ArticleExportResponse;
+import com.adam9e96.BlogStudy.dto.ArticleListResponse;
 import com.adam9e96.BlogStudy.dto.ArticleResponse;
+import com.adam9e96.BlogStudy.dto.ArticleSearchResponse;
+import com.adam9e96.BlogStudy.dto.ArticleSnapshot;
+import com.adam9e96.BlogStudy.dto.ArticleSummary;
+import com.adam9e96.BlogStudy.dto.BulkImportResponse;
+import com.adam9e96.BlogStudy.dto.CursorPage;
 import com.adam9e96.BlogStudy.dto.UpdateArticleRequest;
+import com.adam9e96.BlogStudy.service.ArticleSearchService;
 import com.adam9e96.BlogStudy.service.BlogServiceImpl;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 /**
@@ -28,6 +52,7 @@ import java.util.List;
  *   <li>새로운 게시물 추가</li>
  *   <li>게시물 전체 조회</li>
  *   <li>게시물 id로 조회</li>
+ *   <li>게시물 제목/본문 검색</li>
  *   <li>게시술 id로 삭제</li>
  * </ul>
  * </p>
@@ -41,6 +66,11 @@ import java.util.List;
 @RestController
 public class BlogApiController {
 
+    /**
+     * 줄 단위 JSON(NDJSON) 미디어 타입
+     */
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+
     /**
      * {@code BlogService} 인스턴스입니다.
      * <p>
@@ -50,6 +80,21 @@ public class BlogApiController {
     @Autowired
     private final BlogServiceImpl blogService;
 
+    /**
+     * 게시물 전문 검색 서비스
+     */
+    private final ArticleSearchService articleSearchService;
+
+    /**
+     * 게시물 내보내기(NDJSON) 직렬화에 사용하는 스프링 부트 기본 ObjectMapper
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 블로그 설정 (내보내기 제한 시간)
+     */
+    private final BlogProperties blogProperties;
+
     /**
      * <h2>블로그 글 추가</h2>
      * 새로운 블로그 게시물을 추가하는 API 엔드포인트입니다.
@@ -98,24 +143,157 @@ public class BlogApiController {
     }
 
     /**
-     * <h2>블로그 글 전체 조회</h2>
+     * <h2>블로그 글 대량 추가</h2>
+     * <p>
+     * /api/articles/bulk 로 POST 요청이 오면 여러 게시물을 한 번에 저장합니다.
+     * 요청 본문은 {@link AddArticleRequest} 의 JSON 배열이나 NDJSON(한 줄에 하나) 형식입니다.
+     * </p>
+     * <p>
+     * 요청 본문 전체를 한 번에 읽지 않고 스트림에서 하나씩 파싱하여 서비스에 넘기며,
+     * 서비스는 설정된 배치 크기마다 JDBC 배치 INSERT 로 저장합니다.
+     * 응답에는 항목별 결과(성공 시 id, 실패 시 사유)가 요청 순서대로 담깁니다.
+     * </p>
+     * <p>
+     * 필드 타입이 맞지 않는 항목은 실패로 기록하고 다음 항목을 계속 처리합니다.
+     * 본문이 중간에 잘리는 등 JSON 문법 오류가 있으면 그 앞까지만 저장하고, 오류 위치를 실패로 담아 반환합니다.
+     * </p>
+     *
+     * @param request 요청 본문을 읽기 위한 HTTP 요청
+     * @return 저장/실패 건수와 항목별 결과
+     */
+    @PostMapping(value = "/api/articles/bulk",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, NDJSON_VALUE})
+    public ResponseEntity<BulkImportResponse> bulkAddArticles(HttpServletRequest request) throws IOException {
+        try (MappingIterator<AddArticleRequest> requests = objectMapper.readerFor(AddArticleRequest.class)
+                .readValues(request.getInputStream())) {
+            BulkImportResponse response = blogService.importAll(requests);
+            log.info("Bulk imported articles: imported={}, failed={}", response.getImported(), response.getFailed());
+            return ResponseEntity.ok().body(response);
+        }
+    }
+
+    /**
+     * <h2>블로그 글 목록 조회</h2>
      * <p>
-     * <url>http://www.localhost:8080/api/articles</url> 로 GET 요청이 오면 글 목록을 조회합니다.
+     * <url>http://www.localhost:8080/api/articles</url> 로 GET 요청이 오면 글 목록을 한 페이지씩 조회합니다.
      * </p>
      * <p>
      * /api/articles 로 GET 요청이 오면 글 목록을 조회할 findAllArticles()를 실행합니다. <br>
-     * 내부족으로는 글 전체를 조회하는 findAll() 메서드를 호출한 다음 <br>
-     * 응답용 객체인 ArticleResponse 타입으로 파싱해 body 에 담아서 클라이언트에 전송합니다.(반환)
+     * 내부적으로는 커서 기반으로 한 페이지를 조회하는 findPage() 메서드를 호출한 다음 <br>
+     * 응답용 객체인 ArticleListResponse 타입으로 파싱해 body 에 담아서 클라이언트에 전송합니다.(반환)
      * </p>
+     * <p>
+     * 목록에서는 본문 전체를 불러오지 않으므로 {@code content} 대신 본문 앞부분(최대 100자)인 {@code excerpt} 가 담깁니다.
+     * 본문 전체는 응답의 {@code id} 로 /api/articles/{id} 를 조회합니다.
+     * </p>
+     * <p>
+     * 다음 페이지가 있으면 {@code Link: <...?cursor=...&size=...>; rel="next"} 헤더로 다음 페이지 주소를 알려줍니다.
+     * 헤더가 없으면 마지막 페이지입니다. 커서를 해석할 수 없으면 400 Bad Request 를 반환합니다.
+     * </p>
+     * <p>
+     * 페이지에 담긴 글들의 id 와 수정 시간으로 목록 ETag 를 만들어, If-None-Match 가 같으면 본문 없이 304 Not Modified 를 반환합니다.
+     * </p>
+     *
+     * @param cursor 이전 응답의 Link 헤더에 담긴 커서, 첫 페이지이면 생략
+     * @param size   페이지 크기, 생략하면 기본 크기 (최대 크기를 넘을 수 없음)
      */
     @GetMapping("/api/articles")
-    public ResponseEntity<List<ArticleResponse>> findAllArticles() {
-        List<ArticleResponse> articles = blogService.findAll()
+    public ResponseEntity<List<ArticleListResponse>> findAllArticles(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false) Integer size,
+            WebRequest webRequest) {
+        CursorPage<ArticleSummary> page = blogService.findPage(cursor, size);
+        if (webRequest.checkNotModified(ArticleETags.list(page.getItems(), page.getNextCursor()))) {
+            return null; // 304 Not Modified
+        }
+        List<ArticleListResponse> articles = page.getItems()
                 .stream()
-                .map(ArticleResponse::new)
+                .map(ArticleListResponse::new)
                 .toList();
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.hasNext()) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", page.getNextCursor())
+                    .replaceQueryParam("size", articles.size())
+                    .toUriString();
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(articles);
+    }
+
+    /**
+     * <h2>블로그 글 검색</h2>
+     * <p>
+     * /api/articles/search?q=검색어 로 GET 요청이 오면 제목과 본문에서 검색어와 관련된 글을 관련도 순서로 반환합니다.
+     * </p>
+     * <p>
+     * 데이터베이스에 {@code LIKE '%검색어%'} 쿼리를 보내지 않고 메모리 역색인에서 검색합니다.
+     * 한글은 두 글자 단위(bigram)로 비교하므로 조사가 붙은 단어("스프링을")도 검색어("스프링")와 일치합니다.
+     * </p>
+     * <p>
+     * 검색어가 비어 있거나 페이지 번호가 음수이면 400 Bad Request 를 반환합니다.
+     * 뒤 페이지일수록 앞의 결과를 모두 골라내야 하므로, 페이지의 마지막 결과 순번이
+     * {@code blog.page.max-search-results}(기본 1000)를 넘는 요청도 400 Bad Request 로 거절합니다.
+     * </p>
+     *
+     * @param query 검색어
+     * @param page  0부터 시작하는 페이지 번호, 생략하면 첫 페이지
+     * @param size  페이지 크기, 생략하면 기본 크기 (최대 크기를 넘을 수 없음)
+     */
+    @GetMapping("/api/articles/search")
+    public ResponseEntity<ArticleSearchResponse> searchArticles(
+            @RequestParam(name = "q") String query,
+            @RequestParam(name = "page", required = false) Integer page,
+            @RequestParam(name = "size", required = false) Integer size) {
+        if (query.isBlank() || !articleSearchService.isWithinResultWindow(page, size)) {
+            log.debug("Rejected article search: q={}, page={}, size={}", query, page, size);
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok().body(articleSearchService.search(query, page, size));
+    }
+
+    /**
+     * <h2>블로그 글 전체 내보내기</h2>
+     * <p>
+     * /api/articles/export 로 GET 요청이 오면 모든 글을 NDJSON(한 줄에 JSON 객체 하나) 형식으로 내보냅니다.
+     * </p>
+     * <p>
+     * 글 목록을 리스트로 만들지 않고, 데이터베이스에서 읽는 즉시 한 건씩 응답 본문에 씁니다.
+     * 그래서 글 수와 관계없이 메모리 사용량이 일정합니다.
+     * 검색/분석 파이프라인에서 전체 글을 가져갈 때 사용합니다.
+     * </p>
+     * <p>
+     * 응답 본문은 비동기로 쓰이므로 기본 비동기 제한 시간(보통 30초)이 지나면 글이 많을 때 중간에 끊깁니다.
+     * 그래서 이 요청에만 {@code blog.export.timeout}(기본 10분)을 제한 시간으로 지정합니다.
+     * </p>
+     */
+    @GetMapping(value = "/api/articles/export", produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportArticles(WebRequest webRequest) {
+        // 반환한 본문을 쓰기 시작할 때 이 요청의 제한 시간이 비동기 처리에 적용된다.
+        long timeout = blogProperties.getExport().getTimeout().toMillis();
+        WebAsyncUtils.getAsyncManager(webRequest).getAsyncWebRequest().setTimeout(timeout > 0 ? timeout : -1);
+
+        ObjectWriter writer = objectMapper.writerFor(ArticleExportResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE); // 한 줄마다 flush 하지 않음
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null); // 줄바꿈은 직접 씀
+                blogService.exportAll(article -> {
+                    try {
+                        writer.writeValue(generator, new ArticleExportResponse(article));
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
         return ResponseEntity.ok()
-                .body(articles);
+                .contentType(MediaType.parseMediaType(NDJSON_VALUE))
+                .body(body);
     }
 
     /**
@@ -124,11 +302,19 @@ public class BlogApiController {
      * </h2>
      * <p>
      * /api/articles/{id} 로 GET 요청이 오면 id에 해당되는 블로그 글을 반환합니다.
+     * 자주 읽히는 글은 게시물 스냅샷 캐시에서 반환하므로 데이터베이스를 조회하지 않습니다.
+     * </p>
+     * <p>
+     * 응답에는 ETag 와 Last-Modified 헤더가 담깁니다. 클라이언트가 If-None-Match / If-Modified-Since 로 다시 요청하면
+     * 본문을 불러오기 전에 수정 시간만 조회해 비교하고, 변경되지 않았으면 본문 없이 304 Not Modified 를 반환합니다.
      * </p>
      */
     @GetMapping("/api/articles/{id}")
-    public ResponseEntity<ArticleResponse> findArticle(@PathVariable("id") Long id) {
-        Article article = blogService.findById(id);
+    public ResponseEntity<ArticleResponse> findArticle(@PathVariable("id") Long id, WebRequest webRequest) {
+        ArticleSnapshot article = ArticleETags.loadIfModified(webRequest, blogService, id);
+        if (article == null) {
+            return null; // 304 Not Modified (응답 헤더는 이미 설정됨)
+        }
 
         return ResponseEntity.ok().body(new ArticleResponse(article));
     }
@@ -151,13 +337,27 @@ public class BlogApiController {
      * <h2>
      * 블로그 글을 id로 수정하기
      * </h2>
+     * <p>
+     * If-Match 헤더에 조회 응답의 ETag 를 담아 보내면, 그 사이에 다른 사용자가 글을 수정한 경우
+     * 덮어쓰지 않고 412 Precondition Failed 를 반환합니다. 이때 클라이언트는 글을 다시 조회해야 합니다.
+     * If-Match 가 없어도 글을 읽고 저장하는 사이에 다른 수정이 먼저 커밋되면 덮어쓰지 않고 409 Conflict 를 반환합니다.
+     * 응답에는 수정된 글의 새 ETag 가 담깁니다.
+     * </p>
      */
     @PutMapping("/api/articles/{id}")
     public ResponseEntity<Article> updateArticle(@PathVariable("id") Long id,
-                                                 @RequestBody UpdateArticleRequest request) {
-        Article updateArticle = blogService.update(id, request);
+                                                 @RequestBody UpdateArticleRequest request,
+                                                 @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Article updateArticle;
+        try {
+            updateArticle = blogService.update(id, request, ArticleETags.expectedVersion(id, ifMatch));
+        } catch (OptimisticLockingFailureException e) {
+            log.debug("Article update rejected by version conflict: id={}, ifMatch={}", id, ifMatch);
+            return ResponseEntity.status(ifMatch != null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT).build();
+        }
 
         return ResponseEntity.ok()
+                .eTag(ArticleETags.article(id, updateArticle.getVersion()))
                 .body(updateArticle);
     }
 }
\ No newline at end of file
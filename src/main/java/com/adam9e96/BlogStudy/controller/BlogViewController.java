@@ -2,7 +2,11 @@ package com.adam9e96.BlogStudy.controller;
 
 import com.adam9e96.BlogStudy.domain.Article;
 import com.adam9e96.BlogStudy.dto.ArticleListViewResponse;
+import com.adam9e96.BlogStudy.dto.ArticleSnapshot;
+import com.adam9e96.BlogStudy.dto.ArticleSummary;
 import com.adam9e96.BlogStudy.dto.ArticleViewResponse;
+import com.adam9e96.BlogStudy.dto.CursorPage;
+import com.adam9e96.BlogStudy.service.ArticleViewCounter;
 import com.adam9e96.BlogStudy.service.BlogServiceImpl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +15,7 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -20,24 +25,45 @@ import java.util.List;
 public class BlogViewController {
 
     private final BlogServiceImpl blogService;
+    private final ArticleViewCounter articleViewCounter;
 
     @GetMapping("/articles")
-    public String getArticles(Model model) {
-        List<ArticleListViewResponse> articles = blogService.findAll().stream()
+    public String getArticles(@RequestParam(name = "cursor", required = false) String cursor, Model model) {
+        // 본문 전체가 아닌 목록용 요약(프로젝션)만 한 페이지 조회
+        CursorPage<ArticleSummary> page = blogService.findPage(cursor, null);
+        List<ArticleListViewResponse> articles = page.getItems().stream()
                 .map(ArticleListViewResponse::new)
                 .toList();
-        log.info(articles.toString());
         model.addAttribute("articles", articles); // 블로그 글 리스트 저장
+        model.addAttribute("nextCursor", page.getNextCursor()); // 다음 페이지 커서 (없으면 null)
         return "articleList"; // articleList.html 라는 뷰 조회
     }
 
+    /**
+     * 글 화면을 보여 주고 조회수를 1 증가시킵니다.
+     * <p>
+     * 조회수는 스냅샷에 담지 않으므로 {@link ArticleViewCounter#views(Long)} 로 따로 가져옵니다(이번 조회 포함).
+     * 조회수는 ETag 에 포함되지 않으므로 304 로 응답하면 브라우저에 저장된 화면의 조회수가 그대로 보입니다.
+     * </p>
+     */
     @GetMapping("/articles/{id}")
-    public String getArticle(@PathVariable("id") Long id, Model model) {
-        Article article = blogService.findById(id);
-        model.addAttribute("article", new ArticleViewResponse(article));
+    public String getArticle(@PathVariable("id") Long id, WebRequest webRequest, Model model) {
+        ArticleSnapshot article = ArticleETags.loadIfModified(webRequest, blogService, id);
+        articleViewCounter.increment(id); // 브라우저 캐시로 보여 주는 경우(304)도 조회로 센다.
+        if (article == null) {
+            return null; // 304 Not Modified
+        }
+        model.addAttribute("article", new ArticleViewResponse(article, articleViewCounter.views(id)));
         return "article";
     }
 
+    /**
+     * 글 등록/수정 화면을 보여 줍니다.
+     * <p>
+     * 수정 화면에는 읽은 버전의 ETag 를 담아, 수정 요청이 If-Match 로 보내도록 합니다.
+     * 그래서 화면을 연 뒤 다른 사용자가 먼저 수정했다면 덮어쓰지 않고 412 로 거절됩니다.
+     * </p>
+     */
     @GetMapping("/new-article")
     // id 키를 가진 쿼리 파라미터의 값을 id 변수에 매핑(id는 없을 수도 있음)
     public String newArticle(@RequestParam(name = "id", required = false) Long id, Model model) {
@@ -46,6 +72,7 @@ public class BlogViewController {
         } else { // id 가 없으면 수정
             Article article = blogService.findById(id);
             model.addAttribute("article", new ArticleViewResponse(article));
+            model.addAttribute("eTag", ArticleETags.article(id, article.getVersion()));
         }
         return "newArticle";
     }
@@ -4,12 +4,14 @@ import com.adam9e96.BlogStudy.dto.CreateAccessTokenRequest;
 import com.adam9e96.BlogStudy.dto.CreateAccessTokenResponse;
 import com.adam9e96.BlogStudy.service.TokenService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+@Slf4j
 @RequiredArgsConstructor
 @RestController
 public class TokenApiController {
@@ -17,6 +19,10 @@ public class TokenApiController {
 
     /**
      * TokenService 의 createNewAccessToken 메소드를 호출하여 요청에서 추출한 리프래시 토큰을 기반으로 새로운 액세스 토큰을 생성합니다.
+     * <p>
+     * 요청에 사용한 리프레시 토큰은 새 리프레시 토큰으로 교체되어 응답에 함께 담깁니다.
+     * 유효하지 않거나 이미 교체된(재사용된) 리프레시 토큰이면 401 Unauthorized 를 반환합니다.
+     * </p>
      *
      * @param request 요청
      * @return HTTP 응답용 객체 CreateAccessTokenResponse
@@ -25,11 +31,17 @@ public class TokenApiController {
     public ResponseEntity<CreateAccessTokenResponse> createNewAccessToken
     (@RequestBody CreateAccessTokenRequest request) {
 
-        // 새로운 액세스 토큰 생성
-        String newAccessToken = tokenService.createNewAccessToken(request.getRefreshToken());
+        // 새로운 액세스 토큰 생성 + 리프레시 토큰 교체
+        CreateAccessTokenResponse response;
+        try {
+            response = tokenService.createNewAccessToken(request.getRefreshToken());
+        } catch (IllegalArgumentException e) {
+            log.debug("Refresh token rejected: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
 
         // 응답 생성
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(new CreateAccessTokenResponse(newAccessToken));
+                .body(response);
     }
 }
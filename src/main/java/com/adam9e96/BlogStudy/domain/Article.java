@@ -5,6 +5,9 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -33,23 +36,37 @@ import java.time.LocalDateTime;
  *       대신 {@link #builder()} 메서드를 사용하여 객체를 생성해야 합니다.
  * </p>
  *
+ * <p>
+ * 2차 캐시를 켜면 조회수({@code views})는 JDBC 로 직접 반영되므로 캐시된 엔티티에는 영역의 만료 시간만큼 늦게 보일 수 있습니다.
+ * </p>
+ *
  * @author adam9e96
  * @version 1.0
  */
+@Cacheable // l2cache 프로필에서 Hibernate 2차 캐시에 저장 (영역 설정은 hibernate-jcache.conf)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "article")
 @Entity // 엔티티로 지정하여 JPA가 관리하도록 함
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // 기본 생성자를 PROTECTED 로 설정
 @Getter
 @EntityListeners(AuditingEntityListener.class) // 블로그 글 뷰 구현 (생성시간, 수정시간 관련)
 public class Article {
 
+    /**
+     * 시퀀스에서 한 번에 할당받는 id 개수 (시퀀스의 증가값과 같아야 함)
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     /**
      * 게시물의 고유 식별자입니다.
      * <p>
-     * 데이터베이스의 기본 키로 사용되며, 자동으로 1씩 증가합니다.
+     * 데이터베이스의 기본 키로 사용되며, {@code article_seq} 시퀀스로 생성합니다.
+     * IDENTITY 전략은 INSERT 를 실행해야 id 를 알 수 있어 Hibernate 의 JDBC 배치 INSERT 가 불가능하므로,
+     * 시퀀스 값을 {@value #ID_ALLOCATION_SIZE} 개씩 미리 할당받는(pooled) 방식을 사용합니다.
      * </p>
      */
     @Id // id 필드를 기본키로 지정
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // 기본키를 자동으로 1씩 증가
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "article_seq")
+    @SequenceGenerator(name = "article_seq", sequenceName = "article_seq", allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "id", updatable = false) // 컬럼 이름과 속성 지정
     private Long id; // 일련번호, 기본키
 
@@ -88,6 +105,30 @@ public class Article {
     @Column(name = "updated_at")
     private LocalDateTime updateAt;
 
+    /**
+     * 낙관적 잠금(optimistic locking)에 사용하는 버전입니다.
+     * <p>
+     * 저장할 때 0 으로 시작하고 수정이 커밋될 때마다 1씩 증가합니다.
+     * UPDATE 문의 WHERE 절에 읽을 때의 버전이 함께 들어가므로, 그 사이에 다른 트랜잭션이 먼저 수정했다면
+     * 갱신된 행이 없어 {@code OptimisticLockException} 이 발생하고 나중 수정이 앞선 수정을 덮어쓰지 못합니다.
+     * </p>
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    /**
+     * 게시물 조회수입니다.
+     * <p>
+     * 조회수는 {@code ArticleViewCounter} 가 메모리에 모았다가 JDBC 로 직접 더하므로,
+     * 엔티티를 저장하거나 수정할 때는 이 컬럼을 쓰지 않습니다(insertable/updatable = false).
+     * 그래서 글 수정이 그 사이에 반영된 조회수를 덮어쓰지 않고, 조회수 반영이 버전을 올리지도 않습니다.
+     * </p>
+     */
+    @ColumnDefault("0")
+    @Column(name = "views", nullable = false, insertable = false, updatable = false)
+    private long views;
+
     /**
      * 빌더 패턴을 사용하여 {@code Article} 인스턴스를 생성합니다.
      *
@@ -1,9 +1,15 @@
 package com.adam9e96.BlogStudy.domain;
 
+import com.adam9e96.BlogStudy.config.jwt.TokenDigests;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
 
 /**
  * 리프레시 토큰 엔티티
@@ -12,12 +18,38 @@ import lombok.NoArgsConstructor;
  * 사용자가 새로운 액세스 토큰을 발급받을 때 사용되며, 액세스 토큰의 만료 후에도
  * 사용자가 재인증 없이 서비스를 계속 이용할 수 있도록 지원합니다.
  * </p>
+ * <p>
+ * 토큰 원문(JWT) 대신 SHA-256 다이제스트(64자)만 저장하고, 다이제스트 컬럼의 유니크 인덱스로 조회합니다.
+ * 그래서 토큰 테이블이 커져도 조회 비용이 일정하고, 테이블이 유출되어도 토큰을 그대로 사용할 수 없습니다.
+ * </p>
+ * <p>
+ * 만료 시간({@code expires_at})에도 인덱스가 있어, 만료된 토큰을 정리하는 작업이 테이블 전체를 읽지 않습니다.
+ * </p>
+ * <p>
+ * 사용자마다 한 행만 있으며, 토큰을 갱신할 때마다 새 토큰으로 교체되고 직전 토큰의 다이제스트가 {@code previous_hash} 에 남습니다.
+ * 교체로 이어진 토큰들은 같은 family id({@code family_id}, 토큰의 {@code fid} 클레임)를 가지므로,
+ * 몇 번 전에 교체된 토큰이 다시 사용되어도 같은 family 의 재사용으로 알아볼 수 있습니다.
+ * </p>
+ * <p>
+ * 2차 캐시는 id 로 읽을 때만 사용됩니다. 토큰 교체와 정리는 JPQL 일괄 UPDATE/DELETE 라서 실행될 때마다 이 영역 전체가 비워지므로,
+ * 영역 크기를 작게 둡니다.
+ * </p>
  */
+@Cacheable // l2cache 프로필에서 Hibernate 2차 캐시에 저장 (영역 설정은 hibernate-jcache.conf)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "refreshToken")
+@Table(name = "refresh_token",
+        uniqueConstraints = @UniqueConstraint(name = "uk_refresh_token_hash", columnNames = "token_hash"),
+        indexes = @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Entity
 public class RefreshToken {
 
+    /**
+     * 만료 시간을 지정하지 않았을 때 사용하는 리프레시 토큰 유효 기간
+     */
+    public static final Duration DEFAULT_TTL = Duration.ofDays(14);
+
     /**
      * 리프레시 토큰의 고유 식별자
      */
@@ -33,26 +65,88 @@ public class RefreshToken {
     private Long userId;
 
     /**
-     * 실제 리프레시 토큰 값
+     * 리프레시 토큰의 SHA-256 다이제스트 (16진수 64자)
      */
-    @Column(name = "refresh_token", nullable = false)
-    private String refreshToken;
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
 
     /**
-     * 새로운 리프레시 토큰 인스턴스를 생성합니다.
+     * 리프레시 토큰의 만료 시간. 이 시간이 지나면 정리 작업이 행을 삭제합니다.
+     */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * 마지막 교체(rotation) 때 무효가 된 이전 리프레시 토큰의 다이제스트.
+     * 이 토큰이 다시 사용되면 탈취된 것으로 보고 사용자의 리프레시 토큰을 폐기합니다.
+     */
+    @Column(name = "previous_hash", length = 64)
+    private String previousHash;
+
+    /**
+     * 리프레시 토큰 family id. 교체해도 바뀌지 않으며, 이 family 의 토큰은 모두 같은 {@code fid} 클레임을 가집니다.
+     * family id 가 없는 토큰으로 만든 행은 {@code null} 이고, 첫 교체 때 새 family id 가 정해집니다.
+     */
+    @Column(name = "family_id", length = 36)
+    private String familyId;
+
+    /**
+     * 마지막으로 교체된 시간. 동시에 들어온 갱신 요청과 재사용을 구분할 때 사용합니다.
+     */
+    @Column(name = "rotated_at")
+    private LocalDateTime rotatedAt;
+
+    /**
+     * 새로운 리프레시 토큰 인스턴스를 생성합니다. 만료 시간은 지금부터 {@link #DEFAULT_TTL} 뒤입니다.
      * @param userId 사용자의 고유 식별자
-     * @param refreshToken 리프레시 토큰 값
+     * @param refreshToken 리프레시 토큰 값 (다이제스트로 바꿔 저장)
      */
     public RefreshToken(Long userId, String refreshToken) {
+        this(userId, refreshToken, LocalDateTime.now().plus(DEFAULT_TTL));
+    }
+
+    /**
+     * 새로운 리프레시 토큰 인스턴스를 생성합니다.
+     * @param userId 사용자의 고유 식별자
+     * @param refreshToken 리프레시 토큰 값 (다이제스트로 바꿔 저장)
+     * @param expiresAt 리프레시 토큰의 만료 시간
+     */
+    public RefreshToken(Long userId, String refreshToken, LocalDateTime expiresAt) {
+        this(userId, refreshToken, null, expiresAt);
+    }
+
+    /**
+     * 새로운 리프레시 토큰 family 의 첫 토큰을 생성합니다.
+     * @param userId 사용자의 고유 식별자
+     * @param refreshToken 리프레시 토큰 값 (다이제스트로 바꿔 저장)
+     * @param familyId 토큰의 {@code fid} 클레임에 담은 family id
+     * @param expiresAt 리프레시 토큰의 만료 시간
+     */
+    public RefreshToken(Long userId, String refreshToken, String familyId, LocalDateTime expiresAt) {
         this.userId = userId;
-        this.refreshToken = refreshToken;
+        this.tokenHash = TokenDigests.sha256Hex(refreshToken);
+        this.familyId = familyId;
+        this.expiresAt = expiresAt;
     }
 
     /**
-     * 기존 리프레시 토큰을 새로운 값으로 업데이트 합니다.
+     * 기존 리프레시 토큰을 새로운 값으로 업데이트 합니다. 만료 시간은 지금부터 {@link #DEFAULT_TTL} 뒤로 바뀝니다.
+     *
+     * @param newRefreshToken 새 리프레시 토큰 값 (다이제스트로 바꿔 저장)
      */
     public RefreshToken update(String newRefreshToken) {
-        this.refreshToken = newRefreshToken;
+        return update(newRefreshToken, LocalDateTime.now().plus(DEFAULT_TTL));
+    }
+
+    /**
+     * 기존 리프레시 토큰을 새로운 값과 만료 시간으로 업데이트 합니다.
+     *
+     * @param newRefreshToken 새 리프레시 토큰 값 (다이제스트로 바꿔 저장)
+     * @param newExpiresAt 새 만료 시간
+     */
+    public RefreshToken update(String newRefreshToken, LocalDateTime newExpiresAt) {
+        this.tokenHash = TokenDigests.sha256Hex(newRefreshToken);
+        this.expiresAt = newExpiresAt;
         return this;
     }
 }
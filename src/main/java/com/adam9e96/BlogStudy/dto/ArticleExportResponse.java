@@ -0,0 +1,28 @@
+package com.adam9e96.BlogStudy.dto;
+
+import com.adam9e96.BlogStudy.domain.Article;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시물 내보내기(NDJSON)의 한 줄에 해당하는 객체
+ */
+@Getter
+public class ArticleExportResponse {
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final long views;
+
+    public ArticleExportResponse(Article article) {
+        this.id = article.getId();
+        this.title = article.getTitle();
+        this.content = article.getContent();
+        this.createdAt = article.getCreatedAt();
+        this.updatedAt = article.getUpdateAt();
+        this.views = article.getViews();
+    }
+}
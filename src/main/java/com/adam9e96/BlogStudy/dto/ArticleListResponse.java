@@ -0,0 +1,23 @@
+package com.adam9e96.BlogStudy.dto;
+
+import lombok.Getter;
+
+/**
+ * 글 목록 API 에서 글 한 건을 클라이언트에게 반환하기 위한 DTO
+ * <p>
+ * 목록에서는 본문 전체를 불러오지 않으므로 본문 대신 앞부분({@code excerpt})만 담습니다.
+ * 본문 전체는 {@code id} 로 단건 조회 API 를 호출해 가져옵니다.
+ * </p>
+ */
+@Getter
+public class ArticleListResponse {
+    private final Long id;
+    private final String title;
+    private final String excerpt;
+
+    public ArticleListResponse(ArticleSummary summary) {
+        this.id = summary.id();
+        this.title = summary.title();
+        this.excerpt = summary.excerpt();
+    }
+}
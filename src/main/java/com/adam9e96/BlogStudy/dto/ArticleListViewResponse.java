@@ -1,6 +1,5 @@
 package com.adam9e96.BlogStudy.dto;
 
-import com.adam9e96.BlogStudy.domain.Article;
 import lombok.Getter;
 
 /**
@@ -13,10 +12,11 @@ public class ArticleListViewResponse {
     private final String content;
 
 
-    public ArticleListViewResponse(Article article) {
-        this.id = article.getId();
-        this.title = article.getTitle();
-        this.content = article.getContent();
+    // 목록 화면에는 본문 전체 대신 잘라낸 앞부분을 보여줌
+    public ArticleListViewResponse(ArticleSummary summary) {
+        this.id = summary.id();
+        this.title = summary.title();
+        this.content = summary.excerpt();
     }
 }
 
@@ -13,4 +13,9 @@ public class ArticleResponse {
         this.content = article.getContent();
     }
 
+    public ArticleResponse(ArticleSnapshot snapshot) {
+        this.title = snapshot.title();
+        this.content = snapshot.content();
+    }
+
 }
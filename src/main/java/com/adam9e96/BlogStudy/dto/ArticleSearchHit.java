@@ -0,0 +1,11 @@
+package com.adam9e96.BlogStudy.dto;
+
+/**
+ * 게시물 검색 결과 한 건입니다.
+ *
+ * @param id    게시물 ID
+ * @param title 게시물 제목
+ * @param score 검색어와의 관련도 점수 (BM25, 클수록 관련도가 높음)
+ */
+public record ArticleSearchHit(Long id, String title, double score) {
+}
@@ -0,0 +1,23 @@
+package com.adam9e96.BlogStudy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 게시물 검색 결과 한 페이지를 클라이언트에게 반환하기 위한 DTO
+ * <p>
+ * 일치하는 게시물이 많으면 전체를 세지 않으므로, {@code totalExact} 가 {@code false} 이면 {@code total} 은 "이 건수 이상"을 뜻합니다.
+ * </p>
+ */
+@AllArgsConstructor
+@Getter
+public class ArticleSearchResponse {
+    private final String query;
+    private final long total;
+    private final boolean totalExact;
+    private final int page;
+    private final int size;
+    private final List<ArticleSearchHit> hits;
+}
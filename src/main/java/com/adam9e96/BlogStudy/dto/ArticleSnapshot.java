@@ -0,0 +1,39 @@
+package com.adam9e96.BlogStudy.dto;
+
+import com.adam9e96.BlogStudy.domain.Article;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 게시물 단건 조회 캐시에 보관하는 불변 스냅샷입니다.
+ * <p>
+ * 영속성 컨텍스트와 분리된 값 객체이므로 여러 요청이 같은 인스턴스를 공유해도 안전하며,
+ * 지연 로딩이나 변경 감지가 일어나지 않습니다.
+ * 직렬화할 수 있으므로 캐시를 공유 캐시(예: Redis)로 바꾸어도 그대로 저장할 수 있습니다.
+ * 자주 바뀌는 조회수는 담지 않습니다({@code ArticleViewCounter#views(Long)} 참고).
+ * </p>
+ *
+ * @param id        게시물 ID
+ * @param title     게시물 제목
+ * @param content   게시물 본문
+ * @param createdAt 게시물 생성 시간
+ * @param updatedAt 게시물 수정 시간
+ * @param version   게시물 버전 (ETag 계산용)
+ */
+public record ArticleSnapshot(Long id, String title, String content,
+                              LocalDateTime createdAt, LocalDateTime updatedAt,
+                              Long version) implements Serializable {
+
+    public static ArticleSnapshot from(Article article) {
+        return new ArticleSnapshot(article.getId(), article.getTitle(), article.getContent(),
+                article.getCreatedAt(), article.getUpdateAt(), article.getVersion());
+    }
+
+    /**
+     * @return 마지막 수정 시간, 수정 시간이 없으면 생성 시간
+     */
+    public LocalDateTime lastModified() {
+        return updatedAt != null ? updatedAt : createdAt;
+    }
+}
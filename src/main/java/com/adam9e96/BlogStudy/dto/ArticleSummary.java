@@ -0,0 +1,21 @@
+package com.adam9e96.BlogStudy.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 글 목록 조회용 프로젝션입니다.
+ * <p>
+ * {@code Article} 엔티티 전체를 불러오지 않고 목록에 필요한 컬럼과
+ * 데이터베이스에서 잘라낸 본문 일부(excerpt)만 조회합니다.
+ * 엔티티가 아니므로 영속성 컨텍스트에 올라가지 않고 변경 감지 대상도 아닙니다.
+ * </p>
+ *
+ * @param id        게시물 ID
+ * @param title     게시물 제목
+ * @param createdAt 게시물 생성 시간
+ * @param updatedAt 게시물 수정 시간 (목록 ETag 계산용)
+ * @param excerpt   본문 앞부분 (최대 {@code BlogRepository.EXCERPT_LENGTH} 자)
+ */
+public record ArticleSummary(Long id, String title, LocalDateTime createdAt, LocalDateTime updatedAt,
+                             String excerpt) {
+}
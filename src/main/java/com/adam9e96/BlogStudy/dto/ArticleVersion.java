@@ -0,0 +1,12 @@
+package com.adam9e96.BlogStudy.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시물 본문 없이 조회하는 HTTP 검증자(ETag / Last-Modified) 계산용 프로젝션입니다.
+ *
+ * @param version      게시물 버전 ({@code @Version})
+ * @param lastModified 마지막 수정 시간, 수정 시간이 없으면 생성 시간
+ */
+public record ArticleVersion(Long version, LocalDateTime lastModified) {
+}
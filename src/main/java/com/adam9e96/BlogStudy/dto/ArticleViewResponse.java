@@ -15,11 +15,25 @@ public class ArticleViewResponse {
     private String title;
     private String content;
     private LocalDateTime createdAt;
+    private long views;
 
     public ArticleViewResponse(Article article) {
         this.id = article.getId();
         this.title = article.getTitle();
         this.content = article.getContent();
         this.createdAt = article.getCreatedAt();
+        this.views = article.getViews();
+    }
+
+    /**
+     * @param snapshot 게시물 스냅샷
+     * @param views    조회수 (반영되지 않은 조회수 포함, 스냅샷에는 조회수가 없으므로 따로 받음)
+     */
+    public ArticleViewResponse(ArticleSnapshot snapshot, long views) {
+        this.id = snapshot.id();
+        this.title = snapshot.title();
+        this.content = snapshot.content();
+        this.createdAt = snapshot.createdAt();
+        this.views = views;
     }
 }
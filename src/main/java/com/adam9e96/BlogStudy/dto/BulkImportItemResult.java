@@ -0,0 +1,30 @@
+package com.adam9e96.BlogStudy.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 대량 등록 요청에서 항목 하나의 처리 결과
+ * <p>
+ * 성공하면 저장된 게시물 id 를, 실패하면 실패 사유를 담습니다.
+ * index 는 요청 본문에서 항목의 순서(0부터 시작)입니다.
+ * </p>
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class BulkImportItemResult {
+    private final int index;
+    private final Long id;
+    private final String error;
+
+    public static BulkImportItemResult success(int index, Long id) {
+        return new BulkImportItemResult(index, id, null);
+    }
+
+    public static BulkImportItemResult failure(int index, String error) {
+        return new BulkImportItemResult(index, null, error);
+    }
+}
@@ -0,0 +1,17 @@
+package com.adam9e96.BlogStudy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 대량 등록 결과를 클라이언트에게 반환하기 위한 DTO
+ */
+@AllArgsConstructor
+@Getter
+public class BulkImportResponse {
+    private final int imported;
+    private final int failed;
+    private final List<BulkImportItemResult> results;
+}
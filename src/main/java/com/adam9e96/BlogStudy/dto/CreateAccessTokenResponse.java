@@ -4,10 +4,14 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 /**
- * 새로 생성된 액세스 토큰을 클라이언트에게 반환하기 위한 DTO
+ * 새로 생성된 액세스 토큰과 교체된 리프레시 토큰을 클라이언트에게 반환하기 위한 DTO
+ * <p>
+ * 요청에 사용한 리프레시 토큰은 더 이상 사용할 수 없으므로, 다음 갱신에는 {@code refreshToken} 을 사용해야 합니다.
+ * </p>
  */
 @AllArgsConstructor
 @Getter
 public class CreateAccessTokenResponse {
     private String accessToken;
+    private String refreshToken;
 }
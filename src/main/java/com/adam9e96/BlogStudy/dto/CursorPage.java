@@ -0,0 +1,29 @@
+package com.adam9e96.BlogStudy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반으로 조회한 한 페이지의 결과를 담는 객체입니다.
+ * <p>
+ * {@code nextCursor} 는 다음 페이지를 조회할 때 그대로 전달하는 불투명한 문자열이며,
+ * 마지막 페이지이면 {@code null} 입니다.
+ * </p>
+ *
+ * @param <T> 페이지에 담긴 항목 타입
+ */
+@AllArgsConstructor
+@Getter
+public class CursorPage<T> {
+    private final List<T> items;
+    private final String nextCursor;
+
+    /**
+     * @return 다음 페이지가 있으면 true
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,22 @@
+package com.adam9e96.BlogStudy.dto;
+
+import com.adam9e96.BlogStudy.domain.User;
+
+import java.io.Serializable;
+
+/**
+ * id 로 조회한 사용자 캐시에 보관하는 불변 스냅샷입니다.
+ * <p>
+ * 토큰을 재발급할 때는 사용자 id 와 이메일만 필요하므로 패스워드 해시는 담지 않습니다.
+ * 그래서 캐시를 공유 캐시(예: Redis)로 바꾸어도 패스워드 해시가 캐시 서버로 나가지 않습니다.
+ * </p>
+ *
+ * @param id    사용자 ID
+ * @param email 사용자 이메일
+ */
+public record UserSnapshot(Long id, String email) implements Serializable {
+
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(user.getId(), user.getEmail());
+    }
+}
@@ -0,0 +1,54 @@
+package com.adam9e96.BlogStudy.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 게시물 서비스 메서드 한 번의 실행을 나타내는 JFR 이벤트입니다.
+ * <p>
+ * 작업 이름과 처리한 행 수를 담아, 같은 시간대의 CPU 샘플이나 JDBC 이벤트를 어떤 작업이 일으켰는지 볼 수 있습니다.
+ * 예외로 끝난 실행은 기록하지 않습니다.
+ * </p>
+ */
+@Name(ArticleQueryEvent.NAME)
+@Label("Article Query")
+@Description("Article service operation with the number of rows it handled")
+@Category({"BlogStudy", "Article"})
+@StackTrace(false)
+public final class ArticleQueryEvent extends Event {
+
+    public static final String NAME = "com.adam9e96.BlogStudy.ArticleQuery";
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Rows")
+    private int rows;
+
+    /**
+     * 이벤트를 만들고 시간 측정을 시작합니다.
+     *
+     * @param operation 서비스 메서드 이름 (예: findPage)
+     */
+    public static ArticleQueryEvent start(String operation) {
+        ArticleQueryEvent event = new ArticleQueryEvent();
+        event.operation = operation;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * 시간 측정을 끝내고, 기록 중이며 임계값을 넘었으면 처리한 행 수와 함께 기록합니다.
+     */
+    public void finish(int rows) {
+        end();
+        if (shouldCommit()) {
+            this.rows = rows;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.adam9e96.BlogStudy.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code .jfr} 파일에서 이 애플리케이션의 이벤트({@link TokenEvent}, {@link ArticleQueryEvent}, {@link ViewRenderEvent})를 읽어
+ * 작업별 응답 시간 표로 요약하는 도구입니다.
+ * <p>
+ * 실행: {@code gradle jfrSummary -PjfrFile=build/jfr/blog.jfr}
+ * </p>
+ * <p>
+ * 작업은 토큰 이벤트는 작업과 결과(예: {@code token verify EXPIRED}), 게시물 이벤트는 서비스 메서드(예: {@code article findPage}),
+ * 렌더링 이벤트는 뷰 이름(예: {@code view articleList})으로 나눕니다. 총 소요 시간이 큰 작업부터 출력합니다.
+ * </p>
+ */
+public final class JfrSummary {
+
+    private JfrSummary() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("usage: JfrSummary <recording.jfr>");
+        }
+        System.out.print(summarize(Path.of(args[0])));
+    }
+
+    /**
+     * 기록 파일을 읽어 작업별 건수, 총 시간, 백분위 응답 시간, 평균 행 수를 표로 만듭니다.
+     *
+     * @param recording JFR 기록 파일
+     * @return 출력할 표
+     */
+    static String summarize(Path recording) throws IOException {
+        Map<String, Operation> operations = new HashMap<>();
+        try (RecordingFile file = new RecordingFile(recording)) { // 파일 전체를 메모리에 올리지 않고 한 건씩 읽음
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                String key = key(event);
+                if (key != null) {
+                    Operation operation = operations.computeIfAbsent(key, Operation::new);
+                    operation.durations.add(event.getDuration().toNanos());
+                    if (event.hasField("rows")) {
+                        operation.countsRows = true;
+                        operation.rows += event.getInt("rows");
+                    }
+                }
+            }
+        }
+
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%-36s %8s %10s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "total ms", "mean ms", "p50 ms", "p99 ms", "max ms", "avg rows"));
+        operations.values().stream()
+                .sorted(Comparator.comparingLong(Operation::total).reversed())
+                .forEach(operation -> table.append(operation.row()));
+        return table.toString();
+    }
+
+    // 요약할 이벤트이면 작업 이름을, 아니면 null 을 반환한다.
+    private static String key(RecordedEvent event) {
+        return switch (event.getEventType().getName()) {
+            case TokenEvent.NAME -> "token " + event.getString("operation") + " " + event.getString("outcome");
+            case ArticleQueryEvent.NAME -> "article " + event.getString("operation");
+            case ViewRenderEvent.NAME -> "view " + event.getString("view") + (event.getBoolean("failed") ? " (failed)" : "");
+            default -> null;
+        };
+    }
+
+    /**
+     * 작업 하나의 응답 시간(나노초) 목록과 처리한 행 수 합계
+     */
+    private static final class Operation {
+
+        private final String name;
+        private final List<Long> durations = new ArrayList<>();
+        private boolean countsRows;
+        private long rows;
+
+        private Operation(String name) {
+            this.name = name;
+        }
+
+        private long total() {
+            return durations.stream().mapToLong(Long::longValue).sum();
+        }
+
+        private String row() {
+            long[] sorted = durations.stream().mapToLong(Long::longValue).sorted().toArray();
+            return String.format("%-36s %8d %10.1f %9.3f %9.3f %9.3f %9.3f %9s%n",
+                    name, sorted.length, millis(total()), millis(total()) / sorted.length,
+                    millis(percentile(sorted, 50)), millis(percentile(sorted, 99)), millis(sorted[sorted.length - 1]),
+                    !countsRows ? "-" : String.format("%.1f", (double) rows / sorted.length));
+        }
+
+        private static long percentile(long[] sorted, double percentile) {
+            int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.adam9e96.BlogStudy.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JWT 서명(발급)과 검증 한 번을 나타내는 JFR 이벤트입니다.
+ * <p>
+ * 기록 중이 아니면 {@link #begin()} 과 {@link #shouldCommit()} 은 JIT 가 상수로 처리하므로 비용이 거의 없습니다.
+ * 요청마다 발생하므로 스택 트레이스는 남기지 않습니다.
+ * </p>
+ */
+@Name(TokenEvent.NAME)
+@Label("Token Operation")
+@Description("JWT signing or verification")
+@Category({"BlogStudy", "JWT"})
+@StackTrace(false)
+public final class TokenEvent extends Event {
+
+    public static final String NAME = "com.adam9e96.BlogStudy.TokenOperation";
+
+    public static final String SIGN = "sign";
+    public static final String VERIFY = "verify";
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Outcome")
+    @Description("VALID, EXPIRED, BAD_SIGNATURE, MALFORMED, MISSING for verification; SIGNED for signing")
+    private String outcome;
+
+    /**
+     * 이벤트를 만들고 시간 측정을 시작합니다.
+     *
+     * @param operation {@link #SIGN} 또는 {@link #VERIFY}
+     */
+    public static TokenEvent start(String operation) {
+        TokenEvent event = new TokenEvent();
+        event.operation = operation;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * 시간 측정을 끝내고, 기록 중이며 임계값을 넘었으면 결과와 함께 기록합니다.
+     */
+    public void finish(String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.adam9e96.BlogStudy.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 타임리프 템플릿 렌더링 한 번을 나타내는 JFR 이벤트입니다.
+ * <p>
+ * 컨트롤러 실행이 끝난 뒤부터 응답이 완료될 때까지를 측정합니다. 기록은 {@link ViewRenderEventInterceptor} 가 합니다.
+ * </p>
+ */
+@Name(ViewRenderEvent.NAME)
+@Label("View Render")
+@Description("Template rendering after the controller returned a view name")
+@Category({"BlogStudy", "View"})
+@StackTrace(false)
+public final class ViewRenderEvent extends Event {
+
+    public static final String NAME = "com.adam9e96.BlogStudy.ViewRender";
+
+    @Label("View")
+    private String view;
+
+    @Label("Failed")
+    private boolean failed;
+
+    static ViewRenderEvent start(String view) {
+        ViewRenderEvent event = new ViewRenderEvent();
+        event.view = view;
+        event.begin();
+        return event;
+    }
+
+    void finish(boolean failed) {
+        end();
+        if (shouldCommit()) {
+            this.failed = failed;
+            commit();
+        }
+    }
+}
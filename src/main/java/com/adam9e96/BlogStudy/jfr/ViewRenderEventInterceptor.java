@@ -0,0 +1,39 @@
+package com.adam9e96.BlogStudy.jfr;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * 화면 컨트롤러가 뷰 이름을 반환한 뒤의 템플릿 렌더링 시간을 {@link ViewRenderEvent} 로 기록하는 인터셉터입니다.
+ * <p>
+ * {@link #postHandle} 은 렌더링 직전에, {@link #afterCompletion} 은 렌더링이 끝난 뒤에 호출됩니다.
+ * 기록 중이 아니면 요청 속성에 아무것도 저장하지 않습니다.
+ * </p>
+ */
+public class ViewRenderEventInterceptor implements HandlerInterceptor {
+
+    private static final String EVENT_ATTRIBUTE = ViewRenderEventInterceptor.class.getName() + ".event";
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        if (modelAndView == null || modelAndView.getViewName() == null) {
+            return; // REST 응답이나 304 Not Modified 처럼 렌더링할 뷰가 없는 경우
+        }
+        ViewRenderEvent event = ViewRenderEvent.start(modelAndView.getViewName());
+        if (event.isEnabled()) {
+            request.setAttribute(EVENT_ATTRIBUTE, event);
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(EVENT_ATTRIBUTE) instanceof ViewRenderEvent event) {
+            request.removeAttribute(EVENT_ATTRIBUTE);
+            event.finish(ex != null);
+        }
+    }
+}
@@ -1,9 +1,21 @@
 package com.adam9e96.BlogStudy.repository;
 
 import com.adam9e96.BlogStudy.domain.Article;
+import com.adam9e96.BlogStudy.dto.ArticleSummary;
+import com.adam9e96.BlogStudy.dto.ArticleVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 /**
  * {@link Article} 엔티티를 관리하는 리포지토리 인터페이스입니다.
  *
@@ -18,6 +30,90 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface BlogRepository extends JpaRepository<Article, Long> {
 
-    // 필요한 경우 커스텀 쿼리 메서드를 여기에 추가할 수 있습니다.
+    /**
+     * 목록 조회 시 잘라서 가져올 본문의 최대 길이
+     */
+    int EXCERPT_LENGTH = 100;
+
+    /**
+     * 전체 게시물을 스트림으로 조회할 때 JDBC 드라이버가 한 번에 가져올 행 수
+     */
+    int EXPORT_FETCH_SIZE = 500;
+
+    /**
+     * 목록 조회 결과를 저장할 Hibernate 쿼리 캐시 영역 (l2cache 프로필에서만 사용, 설정은 hibernate-jcache.conf)
+     */
+    String SUMMARY_CACHE_REGION = "articleSummaries";
+
+    /**
+     * id 오름차순으로 첫 페이지의 게시물 요약을 조회합니다.
+     * <p>
+     * 본문 전체 대신 데이터베이스에서 잘라낸 앞부분만 가져옵니다.
+     * 쿼리 캐시를 켜면 결과를 {@value #SUMMARY_CACHE_REGION} 영역에 저장하고, 게시물이 저장·수정·삭제되면 Hibernate 가 무효화합니다.
+     * </p>
+     *
+     * @param limit 조회할 최대 개수
+     * @return 게시물 요약 목록
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SUMMARY_CACHE_REGION)
+    })
+    @Query("select new com.adam9e96.BlogStudy.dto.ArticleSummary("
+            + "a.id, a.title, a.createdAt, a.updateAt, substring(a.content, 1, " + EXCERPT_LENGTH + ")) "
+            + "from Article a order by a.id asc")
+    List<ArticleSummary> findSummaries(Limit limit);
+
+    /**
+     * 주어진 id 보다 큰 게시물의 요약을 id 오름차순으로 조회합니다. (keyset 페이지네이션)
+     * <p>
+     * OFFSET 을 사용하지 않고 기본키 인덱스에서 바로 시작 위치를 찾으므로
+     * 테이블 크기나 페이지 위치와 관계없이 조회 비용이 일정합니다.
+     * 첫 페이지와 같이 쿼리 캐시를 켜면 결과를 캐시합니다. (id 와 개수마다 따로 저장)
+     * </p>
+     *
+     * @param id    이전 페이지의 마지막 게시물 id
+     * @param limit 조회할 최대 개수
+     * @return 게시물 요약 목록
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SUMMARY_CACHE_REGION)
+    })
+    @Query("select new com.adam9e96.BlogStudy.dto.ArticleSummary("
+            + "a.id, a.title, a.createdAt, a.updateAt, substring(a.content, 1, " + EXCERPT_LENGTH + ")) "
+            + "from Article a where a.id > :id order by a.id asc")
+    List<ArticleSummary> findSummariesAfter(@Param("id") Long id, Limit limit);
+
+    /**
+     * 게시물의 버전과 마지막 수정 시간만 조회합니다.
+     * <p>
+     * 조건부 요청(If-None-Match / If-Modified-Since)을 검사할 때 본문을 불러오지 않고 기본키 인덱스로 검증자만 읽습니다.
+     * 수정 시간이 없으면 생성 시간을 사용합니다.
+     * </p>
+     *
+     * @param id 게시물 id
+     * @return 버전과 마지막 수정 시간, 게시물이 없으면 빈 값
+     */
+    @Query("select new com.adam9e96.BlogStudy.dto.ArticleVersion(a.version, coalesce(a.updateAt, a.createdAt)) "
+            + "from Article a where a.id = :id")
+    Optional<ArticleVersion> findVersionById(@Param("id") Long id);
 
+    /**
+     * 모든 게시물을 id 오름차순으로 앞으로만 읽는 스트림으로 조회합니다.
+     * <p>
+     * 결과 전체를 리스트로 만들지 않고 {@link #EXPORT_FETCH_SIZE} 행씩 가져오며,
+     * 읽기 전용으로 조회하므로 변경 감지용 스냅샷을 만들지 않습니다.
+     * 트랜잭션 안에서 호출해야 하며, 사용 후 스트림을 닫아야 합니다.
+     * </p>
+     *
+     * @return 게시물 스트림
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select a from Article a order by a.id asc")
+    Stream<Article> streamAllBy();
 }
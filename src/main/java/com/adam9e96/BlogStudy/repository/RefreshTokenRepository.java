@@ -1,16 +1,23 @@
 package com.adam9e96.BlogStudy.repository;
 
 import com.adam9e96.BlogStudy.domain.RefreshToken;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * 리프레시 토큰 데이터 접근을 담당하는 리포지토리 인터페이스.
  * <p>
  * 이 인터페이스는 {@link JpaRepository}를 확장하여 {@link RefreshToken} 엔티티에 대한
- * CRUD(생성, 조회, 업데이트, 삭제) 작업을 지원합니다. 또한, 특정 사용자 ID 또는 리프레시 토큰 값을
+ * CRUD(생성, 조회, 업데이트, 삭제) 작업을 지원합니다. 또한, 특정 사용자 ID 또는 리프레시 토큰 다이제스트를
  * 기반으로 리프레시 토큰을 조회하는 커스텀 메서드를 제공합니다.
  * </p>
  *
@@ -18,7 +25,7 @@ import java.util.Optional;
  * 주요 기능:
  * <ul>
  *   <li>{@link #findByUserId(Long)} - 사용자 ID를 기반으로 리프레시 토큰을 조회합니다.</li>
- *   <li>{@link #findByRefreshToken(String)} - 리프레시 토큰 값을 기반으로 리프레시 토큰을 조회합니다.</li>
+ *   <li>{@link #findByTokenHash(String)} - 리프레시 토큰 다이제스트를 기반으로 리프레시 토큰을 조회합니다.</li>
  * </ul>
  * </p>
  *
@@ -47,16 +54,79 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
     Optional<RefreshToken> findByUserId(Long userId);
 
     /**
-     * 특정 리프레시 토큰 값을 기반으로 리프레시 토큰을 조회합니다.
+     * 리프레시 토큰의 SHA-256 다이제스트로 리프레시 토큰을 조회합니다.
      * <p>
-     * 이 메서드는 주어진 {@code refreshToken} 값과 일치하는 {@link RefreshToken} 엔티티를
-     * 데이터베이스에서 검색합니다. 이는 주로 클라이언트로부터 전달받은 리프레시 토큰의 유효성을
-     * 확인하거나 갱신할 때 사용됩니다.
+     * 다이제스트 컬럼의 유니크 인덱스로 한 행만 찾으므로 테이블 크기와 관계없이 조회 비용이 일정합니다.
+     * 클라이언트로부터 전달받은 리프레시 토큰의 유효성을 확인하거나 갱신할 때 사용됩니다.
      * </p>
      *
-     * @param refreshToken 조회할 리프레시 토큰 값.
-     * @return 주어진 {@code refreshToken} 값에 해당하는 {@link RefreshToken}을 포함하는 {@link Optional}.
+     * @param tokenHash 조회할 리프레시 토큰의 다이제스트 ({@link com.adam9e96.BlogStudy.config.jwt.TokenDigests#sha256Hex})
+     * @return 주어진 다이제스트에 해당하는 {@link RefreshToken}을 포함하는 {@link Optional}.
      * 리프레시 토큰이 존재하지 않을 경우 {@link Optional#empty()}를 반환합니다.
      */
-    Optional<RefreshToken> findByRefreshToken(String refreshToken);
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * 주어진 시간 이전에 만료된 리프레시 토큰의 id 를 만료 시간 순서로 최대 {@code limit} 개 조회합니다.
+     * <p>
+     * {@code expires_at} 인덱스의 앞부분만 읽으므로 만료되지 않은 행은 읽지 않습니다.
+     * </p>
+     *
+     * @param now   기준 시간
+     * @param limit 조회할 최대 개수
+     * @return 만료된 리프레시 토큰 id 목록
+     */
+    @Query("select r.id from RefreshToken r where r.expiresAt < :now order by r.expiresAt asc")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, Limit limit);
+
+    /**
+     * 주어진 id 중 아직 만료된 상태인 리프레시 토큰을 삭제합니다.
+     * <p>
+     * id 를 조회한 뒤 삭제하기 전에 토큰이 갱신되어 만료 시간이 늘어났을 수 있으므로 만료 여부를 다시 확인합니다.
+     * </p>
+     *
+     * @param ids 삭제할 리프레시 토큰 id
+     * @param now 기준 시간
+     * @return 삭제한 행 수
+     */
+    @Modifying
+    @Query("delete from RefreshToken r where r.id in :ids and r.expiresAt < :now")
+    int deleteExpiredByIds(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * 현재 리프레시 토큰이 주어진 다이제스트와 같을 때만 새 토큰으로 교체합니다.
+     * <p>
+     * 조회 후 수정(read-modify-write) 대신 조건부 UPDATE 한 문장으로 비교와 교체를 함께 하므로,
+     * 같은 토큰으로 동시에 갱신을 요청해도 한 요청만 교체에 성공합니다. 행 잠금은 UPDATE 한 문장 동안만 유지됩니다.
+     * 교체된 토큰의 다이제스트는 {@code previousHash} 에 남겨 재사용을 감지할 수 있게 합니다.
+     * family id 도 같은 문장에서 저장하므로, family id 가 없던 행은 첫 교체 때 family 가 정해집니다.
+     * </p>
+     *
+     * @param userId       사용자 id
+     * @param tokenHash    클라이언트가 보낸 리프레시 토큰의 다이제스트
+     * @param newTokenHash 새 리프레시 토큰의 다이제스트
+     * @param familyId     새 리프레시 토큰의 family id
+     * @param expiresAt    새 리프레시 토큰의 만료 시간
+     * @param now          기준 시간 (만료된 토큰은 교체하지 않음)
+     * @return 교체한 행 수 (0 또는 1)
+     */
+    @Transactional
+    @Modifying
+    @Query("update RefreshToken r set r.tokenHash = :newTokenHash, r.previousHash = :tokenHash, "
+            + "r.familyId = :familyId, r.expiresAt = :expiresAt, r.rotatedAt = :now "
+            + "where r.tokenHash = :tokenHash and r.userId = :userId and r.expiresAt > :now")
+    int rotate(@Param("userId") Long userId, @Param("tokenHash") String tokenHash,
+               @Param("newTokenHash") String newTokenHash, @Param("familyId") String familyId,
+               @Param("expiresAt") LocalDateTime expiresAt, @Param("now") LocalDateTime now);
+
+    /**
+     * 사용자의 리프레시 토큰을 폐기합니다. 사용자는 다시 로그인해야 새 리프레시 토큰을 받을 수 있습니다.
+     *
+     * @param userId 사용자 id
+     * @return 삭제한 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken r where r.userId = :userId")
+    int revokeByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,752 @@
+package com.adam9e96.BlogStudy.search;
+
+import com.adam9e96.BlogStudy.domain.Article;
+import com.adam9e96.BlogStudy.dto.ArticleSearchHit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시물 제목과 본문을 대상으로 하는 메모리 역색인(inverted index)입니다.
+ * <p>
+ * 토큰마다 그 토큰이 들어 있는 게시물과 출현 횟수(posting)를 보관하므로,
+ * 검색 시 테이블 전체를 읽지 않고 검색어 토큰의 posting 만 읽어 점수를 계산합니다.
+ * 토큰은 {@link NGramTokenizer} 로 만들고, 점수는 BM25 로 계산합니다. 제목에 나온 토큰은 본문보다 가중치를 더 줍니다.
+ * </p>
+ *
+ * <p>
+ * 게시물에는 색인에 추가된 순서대로 번호(ordinal)를 붙이고, posting 은 번호 순서로 정렬된 {@code int} 배열에 보관합니다.
+ * 한글은 bigram 으로 나누기 때문에 "에서", "하는" 같은 토큰은 거의 모든 게시물에 들어 있어, 게시물이 많으면 posting 하나가 수십만 건이 됩니다.
+ * 그래서 검색은 모든 posting 의 점수를 계산하지 않고 block-max MaxScore 방식으로 상위 결과에 들 수 없는 구간을 건너뜁니다.
+ * </p>
+ * <ul>
+ *     <li>토큰마다, 그리고 posting {@value #BLOCK_SIZE} 개 구간(block)마다 (출현 횟수, 문서 길이) 쌍 중 다른 쌍보다 점수가 낮을 수 없는 쌍(impact)만 보관해 두고,
+ *     검색할 때 그 쌍들로 구간의 최대 점수를 계산합니다.</li>
+ *     <li>현재 상위 결과의 마지막 점수보다 최대 점수 합이 낮은 토큰만 가진 게시물, 그리고 구간 최대 점수의 합이 그보다 낮은 구간은 점수를 계산하지 않습니다.
+ *     게시물 하나도 구간에서 가장 짧은 문서 길이로 계산한 점수 상한이 낮으면 문서 길이를 읽지 않고 건너뜁니다.</li>
+ *     <li>일치하는 게시물은 {@value #TOTAL_HITS_THRESHOLD} 건까지는 모두 세고, 그 뒤로 건너뛰기를 시작합니다.
+ *     건너뛴 게시물이 있으면 전체 건수는 정확한 값이 아니라 하한값({@link Result#totalExact()} 가 {@code false})이 됩니다.</li>
+ * </ul>
+ *
+ * <p>
+ * 게시물을 수정하거나 삭제하면 이전 번호를 삭제 표시만 하고 posting 은 그대로 둡니다. (검색할 때 건너뜀)
+ * 삭제 표시된 번호가 전체의 1/4 을 넘으면 살아 있는 게시물만 남긴 새 posting 을 만들어 한 번에 교체합니다.
+ * 토큰의 문서 빈도(idf 계산용)에는 아직 정리되지 않은 삭제 게시물도 포함됩니다.
+ * </p>
+ *
+ * <p>
+ * 검색은 잠금 없이 동작하고, 색인 변경(추가/수정/삭제)은 한 번에 하나씩만 적용됩니다.
+ * 게시물 하나의 변경이 반영되는 도중에 검색하면 그 게시물이 잠깐 이전 내용으로도 보일 수 있지만 다른 게시물에는 영향이 없습니다.
+ * </p>
+ */
+public class ArticleSearchIndex {
+
+    /**
+     * 이 건수까지는 일치하는 게시물을 모두 세고, 넘으면 상위 결과에 들 수 없는 게시물을 건너뜁니다.
+     */
+    public static final int TOTAL_HITS_THRESHOLD = 1000;
+
+    /**
+     * BM25 의 출현 횟수 포화 정도
+     */
+    private static final double K1 = 1.2;
+
+    /**
+     * BM25 의 문서 길이 정규화 정도
+     */
+    private static final double B = 0.75;
+
+    /**
+     * 제목에 나온 토큰의 출현 횟수 가중치
+     */
+    private static final int TITLE_WEIGHT = 3;
+
+    /**
+     * 최대 점수를 계산해 두는 posting 구간의 크기
+     */
+    private static final int BLOCK_SIZE = 64;
+
+    /**
+     * 최대 점수가 실제 점수의 합보다 부동소수점 오차만큼 작아지지 않도록 곱하는 값
+     */
+    private static final double UPPER_BOUND_SLACK = 1.000001;
+
+    /**
+     * 정리를 시작하는 최소 삭제 게시물 수 (작은 색인에서 자주 정리하지 않도록)
+     */
+    private static final int COMPACT_MIN_DELETED = 1024;
+
+    /**
+     * 삭제 표시된 게시물의 문서 길이
+     */
+    private static final int DELETED = -1;
+
+    private static final int NO_MORE = Integer.MAX_VALUE;
+
+    /**
+     * 커서를 옮길 때 이진 탐색 전에 차례로 확인하는 posting 수
+     */
+    private static final int LINEAR_SCAN = 8;
+
+    /**
+     * 현재 색인. 정리할 때 새 색인으로 교체합니다.
+     */
+    private volatile Segment segment = new Segment();
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /**
+     * 게시물을 색인에 추가합니다. 이미 색인된 게시물이면 기존 내용을 지우고 다시 색인합니다.
+     *
+     * @param article 색인할 게시물 (id 가 있어야 함)
+     */
+    public void index(Article article) {
+        if (article.getId() == null) {
+            throw new IllegalArgumentException("article id is required for indexing");
+        }
+        Map<String, Integer> frequencies = new HashMap<>();
+        List<String> titleTerms = NGramTokenizer.tokenizeForIndex(article.getTitle());
+        List<String> contentTerms = NGramTokenizer.tokenizeForIndex(article.getContent());
+        for (String term : titleTerms) {
+            frequencies.merge(term, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String term : contentTerms) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+        int length = titleTerms.size() * TITLE_WEIGHT + contentTerms.size();
+
+        writeLock.lock();
+        try {
+            Segment current = segment;
+            current.remove(article.getId());
+            int ordinal = current.add(article.getId(), article.getTitle(), length);
+            // 게시물 정보를 먼저 기록한 뒤 posting 을 추가해야 검색이 posting 의 번호로 게시물을 찾을 수 있다.
+            frequencies.forEach((term, frequency) ->
+                    current.terms.computeIfAbsent(term, key -> new Postings()).add(ordinal, frequency, length));
+            compactIfNeeded(current);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 게시물을 색인에서 제거합니다. 색인되지 않은 게시물이면 아무 것도 하지 않습니다.
+     *
+     * @param id 게시물 id
+     */
+    public void remove(Long id) {
+        writeLock.lock();
+        try {
+            Segment current = segment;
+            current.remove(id);
+            compactIfNeeded(current);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * @return 색인된 게시물 수
+     */
+    public int size() {
+        return segment.liveCount;
+    }
+
+    /**
+     * 검색어와 관련된 게시물을 점수가 높은 순서로 검색합니다.
+     *
+     * @param query  검색어
+     * @param offset 건너뛸 결과 수
+     * @param limit  가져올 결과 수
+     * @return 일치 건수와 요청한 범위의 검색 결과
+     */
+    public Result search(String query, int offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(NGramTokenizer.tokenizeForQuery(query));
+        Segment current = segment;
+        if (terms.isEmpty() || limit < 1) {
+            return new Result(0, true, Collections.emptyList());
+        }
+
+        List<Cursor> cursors = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Postings postings = current.terms.get(term);
+            if (postings != null && postings.size > 0) {
+                cursors.add(new Cursor(postings));
+            }
+        }
+        // 커서를 만든 뒤에 읽어야 커서에 담긴 모든 번호의 게시물 정보가 들어 있다.
+        Documents documents = current.documents;
+        int documentCount = current.documentCount;
+        int liveCount = current.liveCount;
+        if (cursors.isEmpty() || liveCount == 0) {
+            return new Result(0, true, Collections.emptyList());
+        }
+
+        double averageLength = Math.max(1.0, (double) current.totalLength / liveCount);
+        return new Search(cursors, documents, documentCount, averageLength, offset, limit).run();
+    }
+
+    // 삭제 표시된 게시물이 많으면 살아 있는 게시물만 남긴 색인으로 교체한다. (writeLock 안에서 호출)
+    private void compactIfNeeded(Segment current) {
+        if (current.deletedCount >= COMPACT_MIN_DELETED && current.deletedCount * 4L > current.documentCount) {
+            segment = current.compact();
+        }
+    }
+
+    // 점수가 낮을수록, 점수가 같으면 id 가 작을수록 작다. (힙에서 먼저 빠지므로 같은 점수이면 최근 글이 남아 앞에 온다)
+    private static int compareHits(Hit a, Hit b) {
+        int byScore = Double.compare(a.score(), b.score());
+        return byScore != 0 ? byScore : Long.compare(a.id(), b.id());
+    }
+
+    /**
+     * 상위 결과 후보
+     */
+    private record Hit(int ordinal, long id, double score) {
+    }
+
+    /**
+     * 한 번의 검색. 검색어 토큰의 커서를 번호 순서로 함께 움직이며(document-at-a-time) 점수를 계산합니다.
+     */
+    private static final class Search {
+
+        private final Cursor[] cursors;
+        private final Documents documents;
+        private final int offset;
+        private final int keep;
+
+        /**
+         * 최대 점수가 낮은 커서부터 더한 최대 점수 합. {@code boundSums[i]} 는 커서 0 ~ i-1 의 합
+         */
+        private final double[] boundSums;
+
+        /**
+         * 지금 범위(window) 안에서 커서별로 가능한 최대 점수의 합. {@code windowSums[i]} 는 커서 0 ~ i-1 의 합
+         */
+        private final double[] windowSums;
+
+        /**
+         * BM25 문서 길이 정규화 {@code K1 * (1 - B + B * length / averageLength)} 의 상수 부분과 길이 계수
+         */
+        private final double normBase;
+        private final double normPerLength;
+
+        /**
+         * 계산 중인 게시물의 토큰별 점수 (커서 순서)
+         */
+        private final double[] scores;
+
+        private final PriorityQueue<Hit> heap;
+        private int matched;
+        private boolean exact = true;
+
+        private Search(List<Cursor> cursors, Documents documents, int documentCount, double averageLength,
+                       int offset, int limit) {
+            this.documents = documents;
+            this.offset = offset;
+            this.keep = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+            this.normBase = K1 * (1 - B);
+            this.normPerLength = K1 * B / averageLength;
+            for (Cursor cursor : cursors) {
+                int documentFrequency = cursor.size;
+                cursor.idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+                cursor.upperBound = maxScore(cursor.idf, cursor.impacts);
+            }
+            this.cursors = cursors.stream()
+                    .sorted(Comparator.comparingDouble(cursor -> cursor.upperBound))
+                    .toArray(Cursor[]::new);
+            this.boundSums = new double[this.cursors.length + 1];
+            for (int i = 0; i < this.cursors.length; i++) {
+                boundSums[i + 1] = boundSums[i] + this.cursors[i].upperBound;
+            }
+            this.windowSums = new double[this.cursors.length + 1];
+            this.scores = new double[this.cursors.length];
+            this.heap = new PriorityQueue<>(Math.min(keep, 1024) + 1, ArticleSearchIndex::compareHits);
+        }
+
+        private Result run() {
+            while (true) {
+                double threshold = threshold();
+
+                // 최대 점수 합이 기준보다 낮은 앞쪽 커서만 가진 게시물은 상위 결과에 들 수 없으므로 뒤쪽 커서(essential)만 따라간다.
+                int essential = 0;
+                while (essential < cursors.length && boundSums[essential + 1] < threshold) {
+                    essential++;
+                }
+                if (essential > 0) {
+                    exact = false;
+                }
+                if (essential == cursors.length) {
+                    break;
+                }
+                int ordinal = minOrdinal(essential);
+                if (ordinal == NO_MORE) {
+                    break;
+                }
+
+                // essential 커서의 지금 구간(block)이 끝나는 곳까지를 한 범위로 보고, 범위 안의 최대 점수 합이 기준보다 낮으면 범위 끝까지 건너뛴다.
+                int windowEnd = NO_MORE;
+                for (int i = essential; i < cursors.length; i++) {
+                    if (cursors[i].ordinal() != NO_MORE) {
+                        windowEnd = Math.min(windowEnd, cursors[i].blockLastOrdinal());
+                    }
+                }
+                for (int i = 0; i < cursors.length; i++) {
+                    if (i < essential) {
+                        cursors[i].advance(ordinal);
+                    }
+                    windowSums[i + 1] = windowSums[i] + maxScoreUpTo(cursors[i], windowEnd);
+                }
+                if (windowSums[cursors.length] < threshold) {
+                    for (int i = essential; i < cursors.length; i++) {
+                        cursors[i].advance(windowEnd + 1);
+                    }
+                    exact = false;
+                    continue;
+                }
+
+                for (; ordinal <= windowEnd; ordinal = minOrdinal(essential)) {
+                    collect(ordinal, essential);
+                }
+            }
+
+            List<ArticleSearchHit> hits = new ArrayList<>(heap.size());
+            while (!heap.isEmpty()) {
+                Hit hit = heap.poll();
+                hits.add(new ArticleSearchHit(hit.id(), documents.titles[hit.ordinal()], hit.score()));
+            }
+            Collections.reverse(hits);
+            List<ArticleSearchHit> page = hits.size() <= offset ? Collections.emptyList() : hits.subList(offset, hits.size());
+            return new Result(matched, exact, page);
+        }
+
+        // 게시물 하나의 점수를 계산해 상위 결과에 넣는다. essential 커서는 이 게시물을 지나도록 한 칸 움직인다.
+        private void collect(int ordinal, int essential) {
+            // 문서 길이를 읽기 전에 구간의 가장 짧은 문서 길이로 점수 상한을 먼저 계산해, 기준을 넘을 수 없으면 바로 건너뛴다.
+            double threshold = threshold();
+            if (threshold >= 0) {
+                double bound = windowSums[essential];
+                for (int i = essential; i < cursors.length; i++) {
+                    Cursor cursor = cursors[i];
+                    if (cursor.ordinal() == ordinal) {
+                        bound += cursor.idf * saturate(cursor.frequency(), cursor.blockMinLength()) * UPPER_BOUND_SLACK;
+                    }
+                }
+                if (bound < threshold) {
+                    for (int i = essential; i < cursors.length; i++) {
+                        if (cursors[i].ordinal() == ordinal) {
+                            cursors[i].position++;
+                        }
+                    }
+                    exact = false;
+                    return;
+                }
+            }
+
+            int length = documents.lengths[ordinal];
+            Arrays.fill(scores, 0);
+            double partial = 0;
+            for (int i = essential; i < cursors.length; i++) {
+                Cursor cursor = cursors[i];
+                if (cursor.ordinal() == ordinal) {
+                    if (length != DELETED) {
+                        scores[i] = cursor.idf * saturate(cursor.frequency(), length);
+                        partial += scores[i];
+                    }
+                    cursor.position++;
+                }
+            }
+            if (length == DELETED) {
+                return;
+            }
+            matched++;
+
+            // 나머지 토큰은 최대 점수가 큰 것부터 확인하고, 범위 안의 최대 점수를 더해도 기준을 넘을 수 없으면 중단한다.
+            threshold = threshold();
+            for (int i = essential - 1; i >= 0; i--) {
+                if (partial + windowSums[i + 1] < threshold) {
+                    return;
+                }
+                Cursor cursor = cursors[i];
+                cursor.advance(ordinal);
+                if (cursor.ordinal() == ordinal) {
+                    scores[i] = cursor.idf * saturate(cursor.frequency(), length);
+                    partial += scores[i];
+                }
+            }
+
+            // 건너뛰기 여부와 관계없이 같은 점수가 나오도록 항상 같은 순서로 더한다. (페이지마다 순위가 바뀌지 않도록)
+            double score = 0;
+            for (double termScore : scores) {
+                score += termScore;
+            }
+
+            long id = documents.ids[ordinal];
+            if (heap.size() < keep) {
+                heap.offer(new Hit(ordinal, id, score));
+                return;
+            }
+            Hit lowest = heap.peek();
+            if (score > lowest.score() || (score == lowest.score() && id > lowest.id())) {
+                heap.poll();
+                heap.offer(new Hit(ordinal, id, score));
+            }
+        }
+
+        // 상위 결과에 들기 위해 넘어야 하는 점수. 아직 모두 세는 중이거나 결과가 다 차지 않았으면 건너뛰지 않도록 음수를 반환한다.
+        private double threshold() {
+            if (matched < TOTAL_HITS_THRESHOLD || heap.size() < keep) {
+                return -1;
+            }
+            return heap.peek().score();
+        }
+
+        private int minOrdinal(int from) {
+            int min = NO_MORE;
+            for (int i = from; i < cursors.length; i++) {
+                min = Math.min(min, cursors[i].ordinal());
+            }
+            return min;
+        }
+
+        // 커서의 지금 위치부터 upTo 번호까지의 최대 점수. 지금 구간 안에서 끝나면 구간의 최대 점수, 다음 구간으로 넘어가면 토큰 전체의 최대 점수를 쓴다.
+        private double maxScoreUpTo(Cursor cursor, int upTo) {
+            if (cursor.ordinal() > upTo) {
+                return 0;
+            }
+            int block = cursor.position / BLOCK_SIZE;
+            int next = (block + 1) * BLOCK_SIZE;
+            if (next < cursor.size && cursor.ordinals[next] <= upTo) {
+                return cursor.upperBound;
+            }
+            return blockMaxScore(cursor, block);
+        }
+
+        // 구간의 최대 점수. 바로 전에 계산한 구간이면 다시 계산하지 않는다.
+        private double blockMaxScore(Cursor cursor, int block) {
+            if (block != cursor.block) {
+                cursor.block = block;
+                cursor.blockMaxScore = maxScore(cursor.idf, cursor.blockImpacts[block]);
+            }
+            return cursor.blockMaxScore;
+        }
+
+        private double maxScore(double idf, long[] impacts) {
+            double max = 0;
+            for (long impact : impacts) {
+                max = Math.max(max, saturate(impactFrequency(impact), impactLength(impact)));
+            }
+            return idf * max * UPPER_BOUND_SLACK;
+        }
+
+        // BM25 의 토큰 하나 점수에서 idf 를 뺀 부분. 출현 횟수가 많을수록, 문서가 짧을수록 크다.
+        private double saturate(int frequency, int length) {
+            return frequency * (K1 + 1) / (frequency + normBase + normPerLength * length);
+        }
+    }
+
+    /**
+     * 검색어 토큰 하나의 posting 을 앞에서부터 읽는 커서. 만들 때의 posting 길이까지만 읽습니다.
+     */
+    private static final class Cursor {
+
+        private final int[] ordinals;
+        private final short[] frequencies;
+        private final long[][] blockImpacts;
+        private final int size;
+        private final long[] impacts;
+        private double idf;
+        private double upperBound;
+        private int position;
+
+        /**
+         * {@link #blockMaxScore} 를 계산한 구간 번호와 그 값
+         */
+        private int block = -1;
+        private double blockMaxScore;
+
+        private Cursor(Postings postings) {
+            this.size = postings.size; // volatile 읽기 이후에 읽는 배열과 impact 에는 size 까지의 posting 이 모두 반영되어 있다.
+            PostingArrays arrays = postings.arrays;
+            this.ordinals = arrays.ordinals;
+            this.frequencies = arrays.frequencies;
+            this.blockImpacts = arrays.blockImpacts;
+            this.impacts = postings.impacts;
+        }
+
+        private int ordinal() {
+            return position < size ? ordinals[position] : NO_MORE;
+        }
+
+        private int frequency() {
+            return frequencies[position];
+        }
+
+        // impact 는 문서 길이 오름차순이므로 첫 번째 impact 의 문서 길이가 구간에서 가장 짧다.
+        private int blockMinLength() {
+            return impactLength(blockImpacts[position / BLOCK_SIZE][0]);
+        }
+
+        private int blockLastOrdinal() {
+            return ordinals[Math.min((position / BLOCK_SIZE + 1) * BLOCK_SIZE, size) - 1];
+        }
+
+        // target 이상인 첫 번째 posting 으로 이동한다.
+        // 대부분 몇 칸 앞이므로 먼저 차례로 확인하고, 멀면 간격을 두 배씩 늘려 범위를 찾은 뒤 이진 탐색한다.
+        private void advance(int target) {
+            int scanEnd = Math.min(position + LINEAR_SCAN, size);
+            while (position < scanEnd && ordinals[position] < target) {
+                position++;
+            }
+            if (position < scanEnd || position == size) {
+                return;
+            }
+            int low = position - 1;
+            int step = 1;
+            int high = position;
+            while (high < size && ordinals[high] < target) {
+                low = high;
+                step <<= 1;
+                high = low + step;
+            }
+            int found = Arrays.binarySearch(ordinals, low + 1, Math.min(high, size), target);
+            position = found >= 0 ? found : -found - 1;
+        }
+    }
+
+    /**
+     * 토큰 하나의 posting 목록. 게시물 번호 순서로 뒤에만 추가하며, 추가는 writeLock 안에서만 합니다.
+     */
+    private static final class Postings {
+
+        private volatile PostingArrays arrays = new PostingArrays(4);
+
+        /**
+         * 검색에서 읽을 수 있는 posting 수. 배열과 impact 를 기록한 뒤 마지막에 증가시킵니다.
+         */
+        private volatile int size;
+
+        /**
+         * 전체 posting 의 impact (삭제된 게시물 포함, 최대 점수 계산용)
+         */
+        private long[] impacts = new long[0];
+
+        private void add(int ordinal, int frequency, int length) {
+            int index = size;
+            PostingArrays current = arrays;
+            if (index == current.ordinals.length) {
+                current = current.grow(index + (index >> 1));
+                arrays = current;
+            }
+            short weighted = (short) Math.min(frequency, Short.MAX_VALUE);
+            current.ordinals[index] = ordinal;
+            current.frequencies[index] = weighted;
+            int block = index / BLOCK_SIZE;
+            long[] blockImpacts = index % BLOCK_SIZE == 0 ? new long[0] : current.blockImpacts[block];
+            current.blockImpacts[block] = addImpact(blockImpacts, weighted, length);
+            impacts = addImpact(impacts, weighted, length);
+            size = index + 1;
+        }
+    }
+
+    /**
+     * (출현 횟수, 문서 길이) 쌍 하나를 impact 목록에 더한 목록을 반환합니다.
+     * <p>
+     * 출현 횟수가 많을수록, 문서가 짧을수록 점수가 높으므로 출현 횟수가 같거나 많으면서 문서 길이가 같거나 짧은 쌍이 있으면 필요 없는 쌍입니다.
+     * 목록은 출현 횟수 오름차순(문서 길이도 오름차순)이고, 검색 중에도 읽으므로 바꿀 때는 새 배열을 만듭니다.
+     * </p>
+     */
+    private static long[] addImpact(long[] impacts, int frequency, int length) {
+        int kept = 0;
+        for (long impact : impacts) {
+            if (impactFrequency(impact) >= frequency && impactLength(impact) <= length) {
+                return impacts;
+            }
+            if (impactFrequency(impact) > frequency || impactLength(impact) < length) {
+                kept++;
+            }
+        }
+        long[] added = new long[kept + 1];
+        int i = 0;
+        long impact = (long) frequency << 32 | length;
+        boolean inserted = false;
+        for (long existing : impacts) {
+            if (impactFrequency(existing) <= frequency && impactLength(existing) >= length) {
+                continue;
+            }
+            if (!inserted && impactFrequency(existing) > frequency) {
+                added[i++] = impact;
+                inserted = true;
+            }
+            added[i++] = existing;
+        }
+        if (!inserted) {
+            added[i] = impact;
+        }
+        return added;
+    }
+
+    private static int impactFrequency(long impact) {
+        return (int) (impact >>> 32);
+    }
+
+    private static int impactLength(long impact) {
+        return (int) impact;
+    }
+
+    /**
+     * posting 배열. 가득 차면 더 큰 배열에 복사해 교체합니다.
+     */
+    private static final class PostingArrays {
+
+        private final int[] ordinals;
+        private final short[] frequencies;
+        /**
+         * 구간별 impact 목록
+         */
+        private final long[][] blockImpacts;
+
+        private PostingArrays(int capacity) {
+            this(new int[capacity], new short[capacity]);
+        }
+
+        private PostingArrays(int[] ordinals, short[] frequencies) {
+            this.ordinals = ordinals;
+            this.frequencies = frequencies;
+            int blocks = (ordinals.length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+            this.blockImpacts = new long[blocks][];
+        }
+
+        private PostingArrays grow(int capacity) {
+            PostingArrays grown = new PostingArrays(Arrays.copyOf(ordinals, capacity), Arrays.copyOf(frequencies, capacity));
+            System.arraycopy(blockImpacts, 0, grown.blockImpacts, 0, blockImpacts.length);
+            return grown;
+        }
+    }
+
+    /**
+     * 게시물 번호별 id, 제목, 문서 길이 (삭제되면 {@value #DELETED}). 가득 차면 더 큰 배열에 복사해 교체합니다.
+     */
+    private static final class Documents {
+
+        private final long[] ids;
+        private final String[] titles;
+        private final int[] lengths;
+
+        private Documents(int capacity) {
+            this(new long[capacity], new String[capacity], new int[capacity]);
+        }
+
+        private Documents(long[] ids, String[] titles, int[] lengths) {
+            this.ids = ids;
+            this.titles = titles;
+            this.lengths = lengths;
+        }
+
+        private Documents grow(int capacity) {
+            return new Documents(Arrays.copyOf(ids, capacity), Arrays.copyOf(titles, capacity), Arrays.copyOf(lengths, capacity));
+        }
+    }
+
+    /**
+     * 토큰별 posting 과 게시물 정보. 변경은 writeLock 안에서만 합니다.
+     */
+    private static final class Segment {
+
+        private final Map<String, Postings> terms = new ConcurrentHashMap<>();
+
+        /**
+         * 게시물 id → 번호 (변경할 때만 사용)
+         */
+        private final Map<Long, Integer> ordinalsById = new HashMap<>();
+
+        private volatile Documents documents = new Documents(16);
+
+        /**
+         * 지금까지 붙인 번호 수 (삭제 표시된 게시물 포함)
+         */
+        private volatile int documentCount;
+        private volatile int liveCount;
+        private volatile long totalLength;
+        private int deletedCount;
+
+        private int add(Long id, String title, int length) {
+            int ordinal = documentCount;
+            Documents current = documents;
+            if (ordinal == current.ids.length) {
+                current = current.grow(ordinal + (ordinal >> 1));
+                documents = current;
+            }
+            current.ids[ordinal] = id;
+            current.titles[ordinal] = title;
+            current.lengths[ordinal] = length;
+            ordinalsById.put(id, ordinal);
+            totalLength += length;
+            liveCount++;
+            documentCount = ordinal + 1;
+            return ordinal;
+        }
+
+        private void remove(Long id) {
+            Integer ordinal = ordinalsById.remove(id);
+            if (ordinal == null) {
+                return;
+            }
+            Documents current = documents;
+            totalLength -= current.lengths[ordinal];
+            current.lengths[ordinal] = DELETED;
+            current.titles[ordinal] = null;
+            liveCount--;
+            deletedCount++;
+        }
+
+        // 살아 있는 게시물에 순서대로 새 번호를 붙이고, posting 에서 삭제된 게시물을 뺀 새 색인을 만든다.
+        private Segment compact() {
+            Documents current = documents;
+            int[] remap = new int[documentCount];
+            Segment compacted = new Segment();
+            for (int ordinal = 0; ordinal < documentCount; ordinal++) {
+                remap[ordinal] = current.lengths[ordinal] == DELETED ? DELETED
+                        : compacted.add(current.ids[ordinal], current.titles[ordinal], current.lengths[ordinal]);
+            }
+            int[] newLengths = compacted.documents.lengths;
+            terms.forEach((term, postings) -> {
+                PostingArrays arrays = postings.arrays;
+                Postings kept = null;
+                for (int i = 0; i < postings.size; i++) {
+                    int ordinal = remap[arrays.ordinals[i]];
+                    if (ordinal != DELETED) {
+                        if (kept == null) {
+                            kept = new Postings();
+                        }
+                        kept.add(ordinal, arrays.frequencies[i], newLengths[ordinal]);
+                    }
+                }
+                if (kept != null) {
+                    compacted.terms.put(term, kept);
+                }
+            });
+            return compacted;
+        }
+    }
+
+    /**
+     * 검색 결과
+     *
+     * @param total      검색어와 일치하는 게시물 수 ({@code totalExact} 가 {@code false} 이면 하한값)
+     * @param totalExact 일치하는 게시물을 모두 세었는지 여부
+     * @param hits       요청한 범위의 검색 결과 (점수 내림차순)
+     */
+    public record Result(int total, boolean totalExact, List<ArticleSearchHit> hits) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.adam9e96.BlogStudy.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색 색인과 검색어에 공통으로 사용하는 토크나이저입니다.
+ * <p>
+ * 한국어는 띄어쓰기 단위(어절)에 조사가 붙기 때문에 단어 단위로 자르면 "스프링을", "스프링의" 등이 서로 다른 단어가 됩니다.
+ * 그래서 한글은 연속된 음절을 2글자씩 겹쳐 자르는 bigram 으로 나누고, 한 글자 검색을 위해 unigram 도 함께 색인합니다.
+ * 영문과 숫자는 소문자로 바꾼 단어 단위로 자릅니다.
+ * </p>
+ *
+ * <pre>
+ * "스프링부트 JWT" → 색인: [스, 프, 링, 부, 트, 스프, 프링, 링부, 부트, jwt]
+ *                 → 검색: [스프, 프링, 링부, 부트, jwt]
+ * </pre>
+ */
+public final class NGramTokenizer {
+
+    private NGramTokenizer() {
+    }
+
+    /**
+     * 색인할 문서를 토큰으로 나눕니다. 한글은 unigram 과 bigram 을 모두 만듭니다.
+     *
+     * @param text 제목 또는 본문
+     * @return 토큰 목록 (중복 포함)
+     */
+    public static List<String> tokenizeForIndex(String text) {
+        return tokenize(text, true);
+    }
+
+    /**
+     * 검색어를 토큰으로 나눕니다. 한글은 두 글자 이상이면 bigram 만, 한 글자이면 unigram 을 만듭니다.
+     *
+     * @param query 검색어
+     * @return 토큰 목록 (중복 포함)
+     */
+    public static List<String> tokenizeForQuery(String query) {
+        return tokenize(query, false);
+    }
+
+    private static List<String> tokenize(String text, boolean forIndex) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+
+        int start = -1;
+        boolean hangulRun = false;
+        for (int i = 0; i <= normalized.length(); i++) {
+            char c = i < normalized.length() ? normalized.charAt(i) : ' ';
+            boolean hangul = isHangul(c);
+            boolean word = hangul || Character.isLetterOrDigit(c);
+
+            // 단어가 끝났거나 문자 종류(한글/그 외)가 바뀌면 지금까지의 구간을 토큰으로 만든다.
+            if (start >= 0 && (!word || hangul != hangulRun)) {
+                addTokens(tokens, normalized.substring(start, i), hangulRun, forIndex);
+                start = -1;
+            }
+            if (word && start < 0) {
+                start = i;
+                hangulRun = hangul;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addTokens(List<String> tokens, String run, boolean hangul, boolean forIndex) {
+        if (!hangul) {
+            tokens.add(run);
+            return;
+        }
+        if (forIndex || run.length() == 1) {
+            for (int i = 0; i < run.length(); i++) {
+                tokens.add(run.substring(i, i + 1));
+            }
+        }
+        for (int i = 0; i + 2 <= run.length(); i++) {
+            tokens.add(run.substring(i, i + 2));
+        }
+    }
+
+    private static boolean isHangul(char c) {
+        return Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+    }
+}
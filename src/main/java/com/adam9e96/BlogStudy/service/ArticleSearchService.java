@@ -0,0 +1,231 @@
+package com.adam9e96.BlogStudy.service;
+
+import com.adam9e96.BlogStudy.config.BlogProperties;
+import com.adam9e96.BlogStudy.domain.Article;
+import com.adam9e96.BlogStudy.dto.ArticleSearchResponse;
+import com.adam9e96.BlogStudy.repository.BlogRepository;
+import com.adam9e96.BlogStudy.search.ArticleSearchIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 게시물 전문 검색(제목 + 본문)을 담당하는 서비스 클래스입니다.
+ *
+ * <p>
+ * 애플리케이션이 시작되면 모든 게시물을 스트림으로 읽어 {@link ArticleSearchIndex} 를 만들고,
+ * 이후에는 {@link BlogServiceImpl} 에서 게시물이 저장/수정/삭제될 때마다 색인을 갱신합니다.
+ * 트랜잭션 안에서 변경된 경우 커밋이 끝난 뒤에 색인에 반영하므로 롤백된 변경은 색인되지 않습니다.
+ * </p>
+ *
+ * <p>
+ * 검색 소요 시간은 {@code blog.search} 타이머로 기록되며 {@code /actuator/metrics/blog.search} 에서 확인할 수 있습니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class ArticleSearchService {
+
+    /**
+     * 검색에 사용하는 색인. {@link #rebuild()} 가 새 색인을 다 만든 뒤 한 번에 교체합니다.
+     */
+    private volatile ArticleSearchIndex index = new ArticleSearchIndex();
+
+    /**
+     * 색인 변경과 색인 교체가 겹치지 않도록 하는 잠금
+     */
+    private final ReentrantLock updateLock = new ReentrantLock();
+
+    /**
+     * 재색인하는 동안 현재 색인에 적용된 변경 목록 (재색인 중이 아니면 {@code null}, {@link #updateLock} 으로 보호)
+     */
+    private List<Consumer<ArticleSearchIndex>> pendingUpdates;
+
+    /**
+     * 재색인이 동시에 두 번 실행되지 않도록 하는 잠금
+     */
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final BlogRepository blogRepository;
+    private final BlogProperties blogProperties;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer searchTimer;
+
+    public ArticleSearchService(BlogRepository blogRepository, BlogProperties blogProperties,
+                                EntityManager entityManager, TransactionTemplate transactionTemplate,
+                                MeterRegistry meterRegistry) {
+        this.blogRepository = blogRepository;
+        this.blogProperties = blogProperties;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.searchTimer = Timer.builder("blog.search")
+                .description("게시물 검색 소요 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 데이터베이스의 모든 게시물로 색인을 다시 만듭니다.
+     * <p>
+     * 게시물을 한 번에 불러오지 않고 스트림으로 한 건씩 읽어 새 색인에 넣은 뒤 영속성 컨텍스트에서 분리합니다.
+     * 새 색인을 만드는 동안에도 검색은 기존 색인으로 처리됩니다.
+     * </p>
+     * <p>
+     * 재색인 중에 커밋된 저장/수정/삭제는 기존 색인에 바로 반영하면서 따로 기록해 두었다가, 교체하기 직전에 새 색인에 같은 순서로 다시 적용합니다.
+     * 스트림이 변경 전의 행을 읽었더라도 마지막에 적용되는 것은 커밋 후의 변경이므로, 삭제된 게시물이 되살아나거나 이전 내용으로 덮어써지지 않습니다.
+     * </p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long start = System.nanoTime();
+            ArticleSearchIndex rebuilt = new ArticleSearchIndex();
+            recordPendingUpdates(new ArrayList<>());
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    try (Stream<Article> articles = blogRepository.streamAllBy()) {
+                        articles.forEach(article -> {
+                            rebuilt.index(article);
+                            entityManager.detach(article);
+                        });
+                    }
+                });
+            } catch (RuntimeException e) {
+                recordPendingUpdates(null); // 실패하면 기존 색인을 그대로 사용한다.
+                throw e;
+            }
+
+            updateLock.lock();
+            try {
+                pendingUpdates.forEach(update -> update.accept(rebuilt));
+                pendingUpdates = null;
+                index = rebuilt;
+            } finally {
+                updateLock.unlock();
+            }
+            log.info("Search index built: articles={}, elapsed={}ms",
+                    rebuilt.size(), (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void recordPendingUpdates(List<Consumer<ArticleSearchIndex>> updates) {
+        updateLock.lock();
+        try {
+            pendingUpdates = updates;
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * 저장/수정된 게시물을 색인에 반영합니다. 트랜잭션 안이면 커밋 후에 반영합니다.
+     *
+     * @param article 저장/수정된 게시물
+     */
+    public void indexAfterCommit(Article article) {
+        afterCommit(() -> apply(target -> target.index(article)));
+    }
+
+    /**
+     * 삭제된 게시물을 색인에서 제거합니다. 트랜잭션 안이면 커밋 후에 제거합니다.
+     *
+     * @param id 삭제된 게시물 ID
+     */
+    public void removeAfterCommit(Long id) {
+        afterCommit(() -> apply(target -> target.remove(id)));
+    }
+
+    /**
+     * 제목과 본문에서 검색어와 관련된 게시물을 관련도 순서로 한 페이지 조회합니다.
+     *
+     * @param query 검색어
+     * @param page  0부터 시작하는 페이지 번호, {@code null} 이면 첫 페이지
+     * @param size  페이지 크기, {@code null} 이면 기본 크기를 사용하며 최대 크기를 넘을 수 없음
+     * @return 일치 건수(많으면 하한값)와 검색 결과 한 페이지
+     * @throws IllegalArgumentException 검색어가 비어 있거나, 페이지 번호가 음수이거나,
+     *                                  페이지가 {@code blog.page.max-search-results} 를 넘는 경우
+     */
+    public ArticleSearchResponse search(String query, Integer page, Integer size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("query is required");
+        }
+        if (!isWithinResultWindow(page, size)) {
+            throw new IllegalArgumentException("invalid page: " + page);
+        }
+        int pageNumber = page != null ? page : 0;
+        int pageSize = pageSize(size);
+        int offset = pageNumber * pageSize;
+
+        ArticleSearchIndex.Result result = searchTimer.record(() -> index.search(query, offset, pageSize));
+        return new ArticleSearchResponse(query, result.total(), result.totalExact(), pageNumber, pageSize, result.hits());
+    }
+
+    /**
+     * 요청한 페이지가 검색 결과를 넘겨 볼 수 있는 범위 안에 있는지 확인합니다.
+     * <p>
+     * 뒤 페이지를 보여 주려면 앞 페이지의 결과까지 모두 점수순으로 골라내야 하므로,
+     * 페이지의 마지막 결과 순번이 {@code blog.page.max-search-results} 를 넘으면 범위 밖으로 봅니다.
+     * </p>
+     *
+     * @param page 0부터 시작하는 페이지 번호, {@code null} 이면 첫 페이지
+     * @param size 페이지 크기, {@code null} 이면 기본 크기
+     * @return 페이지 번호가 0 이상이고 범위 안이면 {@code true}
+     */
+    public boolean isWithinResultWindow(Integer page, Integer size) {
+        int pageNumber = page != null ? page : 0;
+        return pageNumber >= 0
+                && ((long) pageNumber + 1) * pageSize(size) <= blogProperties.getPage().getMaxSearchResults();
+    }
+
+    // 요청한 페이지 크기를 기본값과 최대값 범위 안으로 맞춘다.
+    private int pageSize(Integer size) {
+        BlogProperties.Page page = blogProperties.getPage();
+        if (size == null || size < 1) {
+            return page.getDefaultSize();
+        }
+        return Math.min(size, page.getMaxSize());
+    }
+
+    // 현재 색인에 변경을 적용하고, 재색인 중이면 새 색인에도 적용하도록 기록해 둔다.
+    private void apply(Consumer<ArticleSearchIndex> update) {
+        updateLock.lock();
+        try {
+            update.accept(index);
+            if (pendingUpdates != null) {
+                pendingUpdates.add(update);
+            }
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
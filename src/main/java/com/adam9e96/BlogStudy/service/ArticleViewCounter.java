@@ -0,0 +1,190 @@
+package com.adam9e96.BlogStudy.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시물 조회수를 메모리에 모았다가 주기적으로 데이터베이스에 반영하는 카운터입니다.
+ *
+ * <p>
+ * 조회할 때마다 {@code UPDATE article SET views = views + 1} 을 실행하면 인기 글의 같은 행에 잠금이 몰려 요청이 줄을 서게 됩니다.
+ * 대신 게시물마다 {@link LongAdder} 에 조회수를 더하고(스레드별로 나뉜 셀에 더하므로 경합이 거의 없음),
+ * {@code blog.views.flush-interval} 마다 쌓인 증가분을 한 번의 JDBC 배치 UPDATE 로 반영합니다.
+ * </p>
+ *
+ * <p>
+ * 증가분은 {@code sum()} 으로 읽어 두고 커밋한 뒤에 같은 값을 빼므로, 반영하는 도중에 들어온 조회수도 잃지 않고 다음 반영에 포함됩니다.
+ * 배치 UPDATE 는 한 트랜잭션으로 실행하므로 실패하면 모든 행이 롤백되고, 그때는 증가분을 빼지 않았으므로 다음 반영 때 그대로 다시 시도합니다.
+ * 애플리케이션이 정상 종료될 때 남은 증가분을 마지막으로 반영합니다.
+ * </p>
+ *
+ * <p>
+ * 반영할 증가분이 없는(지난 반영 이후 조회되지 않은) 게시물의 카운터는 제거하므로, 카운터는 최근에 조회된 게시물 수만큼만 유지됩니다.
+ * 제거하기 직전에 카운터를 가져간 요청이 더한 조회수는 다음 반영 때 제거한 카운터를 한 번 더 확인해 옮겨 담습니다.
+ * </p>
+ *
+ * <p>
+ * 조회수는 자주 바뀌므로 게시물 스냅샷 캐시({@link BlogServiceImpl#ARTICLE_CACHE})에 넣지 않습니다.
+ * 대신 최근에 조회된 게시물의 반영된 조회수를 따로 기억해 두고({@link #views(Long)}),
+ * 반영할 때마다 같은 트랜잭션에서 새 값을 다시 읽어 갱신하므로 반영 때문에 스냅샷 캐시를 비울 필요가 없습니다.
+ * </p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ArticleViewCounter {
+
+    private static final String FLUSH_SQL = "update article set views = views + ? where id = ?";
+    private static final String VIEWS_SQL = "select views from article where id = ?";
+
+    private final Map<Long, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Map<Long, Long> persisted = new ConcurrentHashMap<>(); // 데이터베이스에 반영된 조회수
+    private final ReentrantLock flushLock = new ReentrantLock(); // 예약 반영과 종료 시 반영이 겹치지 않도록
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 지난 반영 때 제거한 카운터 (flushLock 안에서만 사용)
+     */
+    private Map<Long, LongAdder> removed = new HashMap<>();
+
+    /**
+     * 게시물 조회수를 1 증가시킵니다. 데이터베이스에는 다음 반영 때 기록됩니다.
+     *
+     * @param id 게시물 ID
+     */
+    public void increment(Long id) {
+        LongAdder counter = counters.get(id);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(id, key -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    /**
+     * @param id 게시물 ID
+     * @return 아직 데이터베이스에 반영되지 않은 조회수
+     */
+    public long pending(Long id) {
+        LongAdder counter = counters.get(id);
+        return counter != null ? counter.sum() : 0;
+    }
+
+    /**
+     * 데이터베이스에 반영된 조회수에 아직 반영되지 않은 조회수를 더해 돌려줍니다.
+     * 반영된 조회수는 처음 한 번만 데이터베이스에서 읽고, 이후에는 반영할 때 갱신한 값을 사용합니다.
+     *
+     * @param id 게시물 ID
+     * @return 게시물 조회수
+     */
+    public long views(Long id) {
+        Long stored = persisted.get(id);
+        if (stored == null) {
+            List<Long> rows = jdbcTemplate.queryForList(VIEWS_SQL, Long.class, id);
+            if (rows.isEmpty()) {
+                return pending(id);
+            }
+            // 읽는 사이 반영이 끝나 새 값을 넣었다면 방금 읽은 (이전) 값으로 덮어쓰지 않는다.
+            Long existing = persisted.putIfAbsent(id, rows.get(0));
+            stored = existing != null ? existing : rows.get(0);
+        }
+        return stored + pending(id);
+    }
+
+    /**
+     * 쌓인 조회수 증가분을 한 번의 배치 UPDATE 로 데이터베이스에 반영합니다.
+     *
+     * @return 반영한 게시물 수
+     */
+    @Scheduled(fixedDelayString = "${blog.views.flush-interval:5s}")
+    public int flush() {
+        flushLock.lock();
+        try {
+            return flushLocked();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private int flushLocked() {
+        // 지난번에 제거한 카운터에 제거 직전 더해진 조회수가 있으면 지금 카운터로 옮긴다.
+        removed.forEach((id, counter) -> {
+            long late = counter.sum();
+            if (late != 0) {
+                counter.add(-late);
+                counters.computeIfAbsent(id, key -> new LongAdder()).add(late);
+            }
+        });
+        removed = new HashMap<>();
+
+        List<Long> ids = new ArrayList<>();
+        List<LongAdder> flushed = new ArrayList<>();
+        List<Object[]> deltas = new ArrayList<>();
+        counters.forEach((id, counter) -> {
+            long delta = counter.sum();
+            if (delta == 0) {
+                if (counters.remove(id, counter)) {
+                    removed.put(id, counter);
+                }
+            } else {
+                ids.add(id);
+                flushed.add(counter);
+                deltas.add(new Object[]{delta, id});
+            }
+        });
+        // 더 이상 조회되지 않는 게시물의 반영된 조회수는 잊는다.
+        persisted.keySet().removeIf(id -> !counters.containsKey(id));
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Long> totals = new HashMap<>();
+        String totalsSql = "select id, views from article where id in ("
+                + String.join(",", Collections.nCopies(ids.size(), "?")) + ")";
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(FLUSH_SQL, deltas);
+                jdbcTemplate.query(totalsSql, rs -> {
+                    totals.put(rs.getLong(1), rs.getLong(2));
+                }, ids.toArray());
+            });
+        } catch (DataAccessException | TransactionException e) {
+            // 배치 전체가 롤백되었고 증가분은 아직 빼지 않았으므로 다음 반영 때 그대로 다시 시도한다.
+            log.warn("Failed to flush article views: articles={}", deltas.size(), e);
+            return 0;
+        }
+
+        // 반영된 조회수를 먼저 갱신한 뒤 증가분을 빼서, views() 가 반영분을 빠뜨리고 보여 주지 않게 한다.
+        persisted.putAll(totals);
+        for (int i = 0; i < ids.size(); i++) {
+            // sumThenReset() 과 달리 읽은 뒤 더해진 값이 남는다.
+            flushed.get(i).add(-(Long) deltas.get(i)[0]);
+        }
+        return deltas.size();
+    }
+
+    /**
+     * 애플리케이션이 종료될 때 남은 조회수를 반영합니다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushed = flush();
+        log.info("Flushed article views on shutdown: articles={}", flushed);
+    }
+}
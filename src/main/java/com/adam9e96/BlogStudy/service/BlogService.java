@@ -2,9 +2,16 @@ package com.adam9e96.BlogStudy.service;
 
 import com.adam9e96.BlogStudy.domain.Article;
 import com.adam9e96.BlogStudy.dto.AddArticleRequest;
+import com.adam9e96.BlogStudy.dto.ArticleSnapshot;
+import com.adam9e96.BlogStudy.dto.ArticleSummary;
+import com.adam9e96.BlogStudy.dto.ArticleVersion;
+import com.adam9e96.BlogStudy.dto.BulkImportResponse;
+import com.adam9e96.BlogStudy.dto.CursorPage;
 import com.adam9e96.BlogStudy.dto.UpdateArticleRequest;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 
 
 /**
@@ -19,6 +26,14 @@ public interface BlogService {
      */
     Article save(AddArticleRequest request);
 
+    /**
+     * 여러 블로그 게시물을 배치 단위로 나누어 저장합니다.
+     *
+     * @param requests 게시물 추가 요청을 차례로 꺼낼 수 있는 Iterator (요청 본문을 읽으면서 하나씩 파싱)
+     * @return 저장/실패 건수와 항목별 결과
+     */
+    BulkImportResponse importAll(Iterator<AddArticleRequest> requests);
+
     /**
      * 모든 블로그 게시물을 조회합니다.
      *
@@ -26,6 +41,24 @@ public interface BlogService {
      */
     List<Article> findAll();
 
+    /**
+     * 커서 기반으로 블로그 게시물 요약 한 페이지를 조회합니다.
+     * 본문 전체가 아닌 앞부분만 담긴 {@link ArticleSummary} 를 반환합니다.
+     *
+     * @param cursor 이전 페이지 응답의 다음 커서, 첫 페이지이면 {@code null}
+     * @param size   페이지 크기, {@code null} 이면 기본 크기를 사용하며 최대 크기를 넘을 수 없음
+     * @return 게시물 요약 목록과 다음 커서를 담은 페이지
+     */
+    CursorPage<ArticleSummary> findPage(String cursor, Integer size);
+
+    /**
+     * 모든 블로그 게시물을 한 건씩 순서대로 전달합니다.
+     * 전체 목록을 메모리에 올리지 않으므로 게시물 수와 관계없이 메모리 사용량이 일정합니다.
+     *
+     * @param consumer 게시물을 한 건씩 처리할 함수
+     */
+    void exportAll(Consumer<Article> consumer);
+
     /**
      * 특정 ID에 해당하는 블로그 게시물을 조회합니다.
      *
@@ -34,6 +67,23 @@ public interface BlogService {
      */
     Article findById(Long id);
 
+    /**
+     * 특정 ID에 해당하는 블로그 게시물의 불변 스냅샷을 조회합니다.
+     * 조회 전용 화면/API 에서 사용하며, 캐시된 값을 반환할 수 있습니다.
+     *
+     * @param id 게시물 ID
+     * @return 조회된 게시물 스냅샷
+     */
+    ArticleSnapshot findSnapshotById(Long id);
+
+    /**
+     * 특정 ID에 해당하는 블로그 게시물의 버전과 마지막 수정 시간만 조회합니다.
+     *
+     * @param id 게시물 ID
+     * @return 버전과 마지막 수정 시간
+     */
+    ArticleVersion findVersion(Long id);
+
     /**
      * 특정 ID에 해당하는 블로그 게시물을 삭제합니다.
      *
@@ -49,4 +99,14 @@ public interface BlogService {
      * @return 수정된 게시물 엔티티
      */
     Article update(Long id, UpdateArticleRequest request);
+
+    /**
+     * 클라이언트가 알고 있는 버전일 때만 블로그 게시물을 수정합니다.
+     *
+     * @param id              게시물 ID
+     * @param request         게시물 수정 요청 DTO
+     * @param expectedVersion 클라이언트가 마지막으로 읽은 버전, {@code null} 이면 {@link #update(Long, UpdateArticleRequest)} 와 같음
+     * @return 수정된 게시물 엔티티
+     */
+    Article update(Long id, UpdateArticleRequest request, Long expectedVersion);
 }
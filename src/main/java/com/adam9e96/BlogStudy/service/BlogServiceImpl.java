@@ -1,27 +1,93 @@
 package com.adam9e96.BlogStudy.service;
 
+import com.adam9e96.BlogStudy.config.BlogProperties;
 import com.adam9e96.BlogStudy.domain.Article;
 import com.adam9e96.BlogStudy.dto.AddArticleRequest;
+import com.adam9e96.BlogStudy.dto.ArticleSnapshot;
+import com.adam9e96.BlogStudy.dto.ArticleSummary;
+import com.adam9e96.BlogStudy.dto.ArticleVersion;
+import com.adam9e96.BlogStudy.dto.BulkImportItemResult;
+import com.adam9e96.BlogStudy.dto.BulkImportResponse;
+import com.adam9e96.BlogStudy.dto.CursorPage;
 import com.adam9e96.BlogStudy.dto.UpdateArticleRequest;
+import com.adam9e96.BlogStudy.jfr.ArticleQueryEvent;
 import com.adam9e96.BlogStudy.repository.BlogRepository;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * {@link BlogService} 인터페이스를 구현하는 서비스 클래스입니다.
  * <p>
  * 블로그 게시물에 대한 비즈니스 로직을 처리합니다.
+ * 메서드마다 실행 시간과 처리한 행 수를 JFR 이벤트({@link ArticleQueryEvent})로 남깁니다. (기록 중이 아니면 비용이 거의 없음)
  * </p>
  */
 @RequiredArgsConstructor // final 이 붙거나 @NotNull 이 붙은 필드의 생성자 추가
+@Timed("service.invocations") // 모든 public 메서드의 실행 시간 (class, method, exception 태그)
 @Service
 public class BlogServiceImpl implements BlogService {
 
+    /**
+     * 게시물 스냅샷 캐시 이름 ({@code spring.cache.cache-names} 에 등록)
+     */
+    public static final String ARTICLE_CACHE = "articles";
+
+    /**
+     * 캐시 미스 때 게시물 스냅샷을 데이터베이스에서 읽는 데 걸린 시간 메트릭 이름
+     */
+    public static final String SNAPSHOT_LOAD_METRIC = "blog.article.snapshot.load";
+
     private final BlogRepository blogRepository;
+    private final BlogProperties blogProperties;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ArticleSearchService articleSearchService;
+    private final CacheManager cacheManager;
+    private final TaskScheduler taskScheduler;
+    private final MeterRegistry meterRegistry;
 
+    /**
+     * 캐시 미스로 데이터베이스에서 읽고 있는 스냅샷 (같은 id 의 동시 캐시 미스가 한 번만 조회하도록)
+     */
+    private final Map<Long, CompletableFuture<ArticleSnapshot>> snapshotLoads = new ConcurrentHashMap<>();
 
     /**
      * 새로운 블로그 게시물을 저장합니다.
@@ -30,6 +96,7 @@ public class BlogServiceImpl implements BlogService {
      * AddArticleRequest 타입(DTO)으로 객체를 받으면
      * AddArticleRequest 의 toEntity 메서드를 이용해서 Article(entity) 객체로 변환하고
      * JPA의 CRUD 메서드인 save() 를 이용해 데이터베이스에 저장합니다.
+     * 저장된 게시물은 검색 색인에도 추가합니다.
      * </p>
      *
      * @param request 게시물 추가 요청 DTO
@@ -37,7 +104,148 @@ public class BlogServiceImpl implements BlogService {
      */
     @Override
     public Article save(AddArticleRequest request) {
-        return blogRepository.save(request.toEntity());
+        ArticleQueryEvent event = ArticleQueryEvent.start("save");
+        Article article = blogRepository.save(request.toEntity());
+        articleSearchService.indexAfterCommit(article);
+        event.finish(1);
+        return article;
+    }
+
+    /**
+     * 여러 블로그 게시물을 배치 단위로 나누어 저장합니다.
+     *
+     * <p>
+     * 요청을 하나씩 꺼내 검증하고, {@code blog.bulk-import.batch-size} 개가 모이면 한 트랜잭션에서 저장합니다.
+     * 배치마다 flush 후 영속성 컨텍스트를 비우므로 메모리가 쌓이지 않으며,
+     * 시퀀스 기반 id 와 {@code hibernate.jdbc.batch_size} 설정으로 INSERT 는 JDBC 배치로 실행됩니다.
+     * </p>
+     *
+     * <p>
+     * 제목이나 내용이 없는 항목은 저장하지 않고 실패로 기록합니다.
+     * 배치 저장 중 데이터베이스 오류가 나면 해당 배치만 롤백되고 그 배치의 항목이 모두 실패로 기록됩니다.
+     * </p>
+     *
+     * <p>
+     * 요청 본문을 읽으면서 생기는 오류도 예외로 던지지 않고 결과에 기록합니다. 앞선 배치는 이미 커밋되었으므로
+     * 클라이언트가 어떤 항목이 저장되었는지 알 수 있어야 하기 때문입니다.
+     * <ul>
+     *   <li>필드 타입이 맞지 않는 항목({@link RuntimeJsonMappingException})은 실패로 기록하고 다음 항목을 계속 읽습니다.</li>
+     *   <li>본문이 잘렸거나 JSON 문법이 깨져 더 읽을 수 없으면 그 위치를 실패로 기록하고,
+     *       이미 읽은 항목까지만 저장한 결과를 반환합니다.</li>
+     * </ul>
+     * </p>
+     *
+     * @param requests 게시물 추가 요청을 차례로 꺼낼 수 있는 Iterator
+     * @return 저장/실패 건수와 항목별 결과 (요청 순서대로 정렬)
+     */
+    @Override
+    public BulkImportResponse importAll(Iterator<AddArticleRequest> requests) {
+        ArticleQueryEvent event = ArticleQueryEvent.start("importAll");
+        int batchSize = blogProperties.getBulkImport().getBatchSize();
+        List<BulkImportItemResult> results = new ArrayList<>();
+        List<PendingArticle> batch = new ArrayList<>(batchSize);
+
+        int index = 0;
+        while (true) {
+            AddArticleRequest request;
+            try {
+                if (!requests.hasNext()) {
+                    break;
+                }
+                request = requests.next();
+            } catch (RuntimeException e) {
+                if (!(e.getCause() instanceof IOException)) {
+                    throw e;
+                }
+                if (e instanceof RuntimeJsonMappingException && !isSyntaxError(e)) {
+                    // 타입이 맞지 않는 항목: MappingIterator 가 다음 항목 앞으로 건너뛰므로 계속 읽는다.
+                    results.add(BulkImportItemResult.failure(index++, "invalid item: " + originalMessage(e)));
+                    continue;
+                }
+                // 본문이 잘렸거나 JSON 문법이 깨진 경우: 더 읽을 수 없으므로 이미 읽은 항목까지만 저장한다.
+                results.add(BulkImportItemResult.failure(index, "malformed request body: " + originalMessage(e)));
+                break;
+            }
+            String error = validate(request);
+            if (error != null) {
+                results.add(BulkImportItemResult.failure(index, error));
+            } else {
+                batch.add(new PendingArticle(index, request));
+                if (batch.size() >= batchSize) {
+                    saveBatch(batch, results);
+                    batch.clear();
+                }
+            }
+            index++;
+        }
+        if (!batch.isEmpty()) {
+            saveBatch(batch, results);
+        }
+
+        results.sort(Comparator.comparingInt(BulkImportItemResult::getIndex));
+        int imported = (int) results.stream().filter(result -> result.getId() != null).count();
+        event.finish(imported);
+        return new BulkImportResponse(imported, results.size() - imported, results);
+    }
+
+    // 항목을 변환하다가 본문 끝에 닿은 경우처럼 매핑 오류의 원인이 JSON 문법 오류인지 확인한다.
+    private static boolean isSyntaxError(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof JsonParseException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 위치 정보를 뺀 Jackson 오류 메시지
+    private static String originalMessage(RuntimeException e) {
+        return e.getCause() instanceof JsonProcessingException cause ? cause.getOriginalMessage() : e.getMessage();
+    }
+
+    /**
+     * 대량 등록에서 저장을 기다리는 항목 (요청 본문에서의 순서와 요청)
+     */
+    private record PendingArticle(int index, AddArticleRequest request) {
+    }
+
+    private static String validate(AddArticleRequest request) {
+        if (request == null) {
+            return "request is empty";
+        }
+        if (request.getTitle() == null || request.getTitle().isBlank()) {
+            return "title is required";
+        }
+        if (request.getContent() == null || request.getContent().isBlank()) {
+            return "content is required";
+        }
+        return null;
+    }
+
+    // 한 배치를 하나의 트랜잭션으로 저장하고 항목별 결과를 기록한다.
+    private void saveBatch(List<PendingArticle> batch, List<BulkImportItemResult> results) {
+        try {
+            List<Article> saved = transactionTemplate.execute(status -> {
+                List<Article> articles = new ArrayList<>(batch.size());
+                for (PendingArticle pending : batch) {
+                    Article article = pending.request().toEntity();
+                    entityManager.persist(article);
+                    articles.add(article);
+                }
+                entityManager.flush(); // JDBC 배치 INSERT 실행
+                entityManager.clear(); // 영속성 컨텍스트 비우기
+                return articles;
+            });
+            for (int i = 0; i < batch.size(); i++) {
+                results.add(BulkImportItemResult.success(batch.get(i).index(), saved.get(i).getId()));
+                articleSearchService.indexAfterCommit(saved.get(i));
+            }
+        } catch (DataAccessException | PersistenceException | TransactionException e) {
+            String error = "batch failed: " + e.getMessage();
+            for (PendingArticle pending : batch) {
+                results.add(BulkImportItemResult.failure(pending.index(), error));
+            }
+        }
     }
 
     /**
@@ -50,7 +258,90 @@ public class BlogServiceImpl implements BlogService {
      */
     @Override
     public List<Article> findAll() {
-        return blogRepository.findAll();
+        ArticleQueryEvent event = ArticleQueryEvent.start("findAll");
+        List<Article> articles = blogRepository.findAll();
+        event.finish(articles.size());
+        return articles;
+    }
+
+    /**
+     * 커서 기반으로 블로그 게시물 요약 한 페이지를 조회합니다.
+     *
+     * <p>
+     * 엔티티 대신 목록에 필요한 컬럼과 잘라낸 본문만 조회하는 프로젝션을 사용합니다.
+     * 커서는 이전 페이지 마지막 게시물의 id 를 Base64(URL-safe)로 인코딩한 값입니다.
+     * 다음 페이지가 있는지 확인하기 위해 요청한 크기보다 1개 더 조회합니다.
+     * </p>
+     *
+     * @param cursor 이전 페이지 응답의 다음 커서, 첫 페이지이면 {@code null}
+     * @param size   페이지 크기, {@code null} 이면 기본 크기를 사용하며 최대 크기를 넘을 수 없음
+     * @return 게시물 요약 목록과 다음 커서를 담은 페이지
+     * @throws InvalidCursorException 커서 형식이 잘못된 경우 (400 Bad Request)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ArticleSummary> findPage(String cursor, Integer size) {
+        ArticleQueryEvent event = ArticleQueryEvent.start("findPage");
+        int pageSize = pageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<ArticleSummary> articles = (cursor == null || cursor.isBlank())
+                ? blogRepository.findSummaries(limit)
+                : blogRepository.findSummariesAfter(decodeCursor(cursor), limit);
+        event.finish(articles.size());
+
+        if (articles.size() <= pageSize) {
+            return new CursorPage<>(articles, null);
+        }
+        List<ArticleSummary> items = articles.subList(0, pageSize);
+        return new CursorPage<>(items, encodeCursor(items.get(pageSize - 1).id()));
+    }
+
+    // 요청한 페이지 크기를 기본값과 최대값 범위 안으로 맞춘다.
+    private int pageSize(Integer size) {
+        BlogProperties.Page page = blogProperties.getPage();
+        if (size == null || size < 1) {
+            return page.getDefaultSize();
+        }
+        return Math.min(size, page.getMaxSize());
+    }
+
+    private static String encodeCursor(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Long decodeCursor(String cursor) {
+        try {
+            return Long.valueOf(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) { // NumberFormatException 포함
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    /**
+     * 모든 블로그 게시물을 한 건씩 순서대로 전달합니다.
+     *
+     * <p>
+     * {@link BlogRepository#streamAllBy()} 로 앞으로만 읽는 스트림을 열고,
+     * 전달이 끝난 엔티티는 바로 영속성 컨텍스트에서 분리(detach)하여 메모리에 쌓이지 않도록 합니다.
+     * </p>
+     *
+     * @param consumer 게시물을 한 건씩 처리할 함수
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<Article> consumer) {
+        ArticleQueryEvent event = ArticleQueryEvent.start("exportAll");
+        int[] rows = {0};
+        try (Stream<Article> articles = blogRepository.streamAllBy()) {
+            articles.forEach(article -> {
+                consumer.accept(article);
+                entityManager.detach(article);
+                rows[0]++;
+            });
+        }
+        event.finish(rows[0]);
     }
 
     /**
@@ -67,37 +358,208 @@ public class BlogServiceImpl implements BlogService {
      */
     @Override
     public Article findById(Long id) {
-        return blogRepository.findById(id)
+        ArticleQueryEvent event = ArticleQueryEvent.start("findById");
+        Article article = blogRepository.findById(id)
                 .orElseThrow(() ->
                         new IllegalArgumentException("not found: " + id));
+        event.finish(1);
+        return article;
+    }
+
+    /**
+     * 특정 ID에 해당하는 블로그 게시물의 불변 스냅샷을 조회합니다.
+     *
+     * <p>
+     * {@value #ARTICLE_CACHE} 캐시를 먼저 조회하고, 없으면 데이터베이스에서 읽어 캐시에 저장합니다(read-through).
+     * {@code sync = true} 는 사용하지 않습니다. Caffeine 은 동기 로딩을 {@code ConcurrentHashMap.compute} 의
+     * {@code synchronized} 블록 안에서 실행하므로, 가상 스레드에서 JDBC 조회가 캐리어 스레드를 고정(pinning)하기 때문입니다.
+     * 대신 같은 id 로 동시에 캐시 미스가 나면 먼저 온 요청만 데이터베이스를 읽고,
+     * 나머지는 그 결과({@link CompletableFuture})를 기다려 함께 씁니다(기다리는 동안 캐리어 스레드를 고정하지 않음).
+     * 캐시를 통하지 않고 직접 로딩하므로 Caffeine 의 {@code cache.load.duration} 은 기록되지 않고,
+     * 데이터베이스에서 읽은 시간은 {@value #SNAPSHOT_LOAD_METRIC} 타이머로 따로 기록합니다.
+     * 캐시는 {@link #update} 와 {@link #delete} 에서 무효화되며, 크기와 만료 시간은 {@code spring.cache.caffeine.spec} 으로 설정합니다.
+     * </p>
+     *
+     * <p>
+     * 캐시 미스 조회가 수정 커밋 전에 데이터베이스를 읽고, 커밋 후 무효화가 끝난 뒤에 캐시에 저장하면 이전 스냅샷이 만료 시간 동안 남습니다.
+     * 그래서 수정/삭제는 {@code blog.article-cache.second-evict-delay} 뒤에 같은 id 를 한 번 더 무효화합니다.
+     * </p>
+     *
+     * @param id 게시물 ID
+     * @return 조회된 게시물 스냅샷
+     * @throws IllegalArgumentException 해당 ID에 해당하는 게시물이 없을 경우 (캐시에 저장하지 않음)
+     */
+    @Override
+    @Cacheable(cacheNames = ARTICLE_CACHE, key = "#id")
+    public ArticleSnapshot findSnapshotById(Long id) {
+        CompletableFuture<ArticleSnapshot> load = new CompletableFuture<>();
+        CompletableFuture<ArticleSnapshot> inFlight = snapshotLoads.putIfAbsent(id, load);
+        if (inFlight != null) {
+            return awaitSnapshot(inFlight);
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            ArticleSnapshot snapshot = ArticleSnapshot.from(findById(id));
+            load.complete(snapshot);
+            return snapshot;
+        } catch (RuntimeException e) {
+            outcome = "failure";
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            snapshotLoads.remove(id, load);
+            sample.stop(Timer.builder(SNAPSHOT_LOAD_METRIC)
+                    .description("캐시 미스 때 게시물 스냅샷을 데이터베이스에서 읽는 데 걸린 시간")
+                    .tag("cache", ARTICLE_CACHE)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 같은 id 의 스냅샷을 읽고 있는 다른 요청의 결과를 기다립니다. 그 요청이 실패하면 같은 예외를 던집니다.
+     */
+    private static ArticleSnapshot awaitSnapshot(CompletableFuture<ArticleSnapshot> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 특정 ID에 해당하는 블로그 게시물의 버전과 마지막 수정 시간만 조회합니다.
+     *
+     * <p>
+     * HTTP 조건부 요청에서 본문을 불러오기 전에 ETag / Last-Modified 를 비교하기 위해 사용합니다.
+     * </p>
+     *
+     * @param id 게시물 ID
+     * @return 버전과 마지막 수정 시간 (수정된 적이 없으면 생성 시간)
+     * @throws IllegalArgumentException 해당 ID에 해당하는 게시물이 없을 경우
+     */
+    @Override
+    public ArticleVersion findVersion(Long id) {
+        ArticleQueryEvent event = ArticleQueryEvent.start("findVersion");
+        ArticleVersion version = blogRepository.findVersionById(id)
+                .orElseThrow(() -> new IllegalArgumentException("not found: " + id));
+        event.finish(1);
+        return version;
     }
 
     /**
      * 특정 ID에 해당하는 블로그 게시물을 삭제합니다.
+     * 삭제가 끝나면 게시물 스냅샷 캐시에서도 제거합니다.
      *
      * @param id 게시물 ID
      */
     @Override
+    @CacheEvict(cacheNames = ARTICLE_CACHE, key = "#id")
     public void delete(Long id) {
+        ArticleQueryEvent event = ArticleQueryEvent.start("delete");
         blogRepository.deleteById(id);
+        articleSearchService.removeAfterCommit(id);
+        evictSnapshotAgainLater(id);
+        event.finish(1);
     }
 
     /**
      * 특정 ID에 해당하는 블로그 게시물을 수정합니다.
      *
+     * <p>
+     * 게시물은 {@code @Version} 으로 낙관적 잠금을 사용하므로, 읽은 뒤 커밋하기 전에 다른 요청이 먼저 수정했다면
+     * 커밋이 {@link OptimisticLockingFailureException} 으로 실패합니다.
+     * 이 수정은 제목과 본문을 통째로 바꾸므로 실패해도 다시 시도하지 않습니다.
+     * 최신 게시물에 같은 내용을 다시 덮어쓰면 먼저 커밋된 다른 사용자의 수정이 그대로 사라지기 때문입니다.
+     * </p>
+     *
+     * <p>
+     * 캐시 어드바이스가 트랜잭션 바깥에서 동작하므로({@code CacheConfig}),
+     * 게시물 스냅샷 캐시는 트랜잭션이 커밋된 뒤 응답을 반환하기 전에 무효화되고, 잠시 뒤 한 번 더 무효화됩니다.
+     * </p>
+     *
      * @param id      게시물 ID
      * @param request 게시물 수정 요청 DTO
      * @return 수정된 게시물 엔티티
-     * @throws IllegalArgumentException 해당 ID에 해당하는 게시물이 없을 경우
+     * @throws IllegalArgumentException         해당 ID에 해당하는 게시물이 없을 경우
+     * @throws OptimisticLockingFailureException 커밋 전에 다른 수정이 먼저 커밋된 경우
      */
     @Override
-    @Transactional
+    @CacheEvict(cacheNames = ARTICLE_CACHE, key = "#id")
     public Article update(Long id, UpdateArticleRequest request) {
+        ArticleQueryEvent event = ArticleQueryEvent.start("update");
+        Article article = transactionTemplate.execute(status -> applyUpdate(id, request, null));
+        evictSnapshotAgainLater(id);
+        event.finish(1);
+        return article;
+    }
+
+    /**
+     * 클라이언트가 알고 있는 버전일 때만 블로그 게시물을 수정합니다.
+     *
+     * <p>
+     * 현재 버전이 {@code expectedVersion} 과 다르거나, 커밋 전에 다른 요청이 먼저 수정하면
+     * {@link OptimisticLockingFailureException} 을 던집니다.
+     * 클라이언트가 보지 못한 변경을 덮어쓰지 않도록 다시 읽고 판단하게 하기 위해서입니다.
+     * </p>
+     *
+     * @param id              게시물 ID
+     * @param request         게시물 수정 요청 DTO
+     * @param expectedVersion 클라이언트가 마지막으로 읽은 버전, {@code null} 이면 버전을 확인하지 않는 수정
+     * @return 수정된 게시물 엔티티
+     * @throws IllegalArgumentException         해당 ID에 해당하는 게시물이 없을 경우
+     * @throws OptimisticLockingFailureException 버전이 다르거나 다른 수정과 충돌한 경우
+     */
+    @Override
+    @CacheEvict(cacheNames = ARTICLE_CACHE, key = "#id")
+    public Article update(Long id, UpdateArticleRequest request, Long expectedVersion) {
+        if (expectedVersion == null) {
+            return update(id, request);
+        }
+        ArticleQueryEvent event = ArticleQueryEvent.start("updateVersioned");
+        Article article = transactionTemplate.execute(status -> applyUpdate(id, request, expectedVersion));
+        evictSnapshotAgainLater(id);
+        event.finish(1);
+        return article;
+    }
+
+    // 트랜잭션 안에서 게시물을 읽어 수정한다. 변경 감지로 커밋 시 버전 조건이 붙은 UPDATE 가 실행된다.
+    private Article applyUpdate(Long id, UpdateArticleRequest request, Long expectedVersion) {
         Article article = blogRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("not found: " + id));
+        if (expectedVersion != null && !expectedVersion.equals(article.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Article.class, id);
+        }
 
         article.update(request.getTitle(), request.getContent());
+        articleSearchService.indexAfterCommit(article); // 커밋 후 색인 갱신
 
         return article;
     }
+
+    // 커밋 후 무효화(@CacheEvict)와 별도로, 그 사이에 저장된 이전 스냅샷을 지우기 위해 잠시 뒤 한 번 더 무효화한다.
+    // 바깥 트랜잭션 안에서 호출되면 그 트랜잭션이 커밋된 뒤부터 시간을 잰다.
+    private void evictSnapshotAgainLater(Long id) {
+        Cache cache = cacheManager.getCache(ARTICLE_CACHE);
+        if (cache == null) {
+            return;
+        }
+        Duration delay = blogProperties.getArticleCache().getSecondEvictDelay();
+        Runnable schedule = () -> taskScheduler.schedule(() -> cache.evict(id), Instant.now().plus(delay));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            schedule.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                schedule.run();
+            }
+        });
+    }
 }
@@ -0,0 +1,25 @@
+package com.adam9e96.BlogStudy.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.io.Serial;
+
+/**
+ * 클라이언트가 보낸 목록 커서를 해석할 수 없을 때 발생하는 예외입니다.
+ *
+ * <p>
+ * 커서는 클라이언트가 그대로 돌려보내는 값이므로 잘못되거나 변조된 값이 올 수 있습니다.
+ * 서버 오류가 아니므로 400 Bad Request 로 응답합니다.
+ * </p>
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidCursorException extends IllegalArgumentException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public InvalidCursorException(String cursor) {
+        super("invalid cursor: " + cursor);
+    }
+}
@@ -0,0 +1,101 @@
+package com.adam9e96.BlogStudy.service;
+
+import com.adam9e96.BlogStudy.config.jwt.JwtProperties;
+import com.adam9e96.BlogStudy.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 만료된 리프레시 토큰을 주기적으로 삭제하는 작업입니다.
+ *
+ * <p>
+ * 만료된 행을 한 번의 DELETE 로 지우면 지울 행이 많을 때 긴 트랜잭션이 잠금을 오래 잡아 {@code /api/token} 의 토큰 갱신이 기다리게 됩니다.
+ * 대신 {@code expires_at} 인덱스로 만료된 id 를 {@code jwt.refresh-token-purge.batch-size} 개씩 찾아 배치마다 별도 트랜잭션으로 삭제하고,
+ * 배치 사이에 {@code jwt.refresh-token-purge.pause} 만큼 쉽니다.
+ * 한 번 실행할 때 처리하는 배치 수도 제한하므로, 남은 행은 다음 실행에서 삭제됩니다.
+ * </p>
+ *
+ * <p>
+ * 실행하는 동안 스케줄러 스레드 하나를 붙잡고 있으므로(기본 설정이면 10초 이상), 다른 예약 작업이 기다리지 않도록
+ * {@code spring.task.scheduling.pool.size} 를 2 이상으로 설정합니다.
+ * </p>
+ *
+ * <p>
+ * 삭제한 행 수는 {@code refresh.token.purge.rows} 카운터, 실행 시간은 {@code refresh.token.purge} 타이머로 기록합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class RefreshTokenPurgeJob {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JwtProperties.RefreshTokenPurge properties;
+    private final Counter purgedRows;
+    private final Timer purgeTimer;
+
+    public RefreshTokenPurgeJob(RefreshTokenRepository refreshTokenRepository,
+                                TransactionTemplate transactionTemplate,
+                                JwtProperties jwtProperties,
+                                MeterRegistry meterRegistry) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = jwtProperties.getRefreshTokenPurge();
+        this.purgedRows = Counter.builder("refresh.token.purge.rows")
+                .description("정리 작업이 삭제한 만료된 리프레시 토큰 수")
+                .register(meterRegistry);
+        this.purgeTimer = Timer.builder("refresh.token.purge")
+                .description("만료된 리프레시 토큰 정리 작업 실행 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 만료된 리프레시 토큰을 배치 단위로 삭제합니다.
+     *
+     * @return 삭제한 행 수
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh-token-purge.interval:1h}",
+            initialDelayString = "${jwt.refresh-token-purge.interval:1h}")
+    public int purge() {
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        int purged = 0;
+        int batches = 0;
+        try {
+            while (batches < properties.getMaxBatchesPerRun()) {
+                List<Long> ids = refreshTokenRepository.findExpiredIds(now, Limit.of(properties.getBatchSize()));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                Integer deleted = transactionTemplate.execute(
+                        status -> refreshTokenRepository.deleteExpiredByIds(ids, now));
+                purged += deleted != null ? deleted : 0;
+                batches++;
+                if (ids.size() < properties.getBatchSize()) {
+                    break; // 마지막 배치
+                }
+                Thread.sleep(properties.getPause().toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // 종료 중이면 남은 행은 다음 실행에서 삭제
+        } finally {
+            purgedRows.increment(purged);
+            purgeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (purged > 0) {
+            log.info("Purged expired refresh tokens: rows={}, batches={}, elapsed={}ms",
+                    purged, batches, (System.nanoTime() - start) / 1_000_000);
+        }
+        return purged;
+    }
+}
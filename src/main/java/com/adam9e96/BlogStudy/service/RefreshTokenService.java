@@ -1,19 +0,0 @@
-package com.adam9e96.BlogStudy.service;
-
-
-import com.adam9e96.BlogStudy.domain.RefreshToken;
-import com.adam9e96.BlogStudy.repository.RefreshTokenRepository;
-import lombok.RequiredArgsConstructor;
-import org.springframework.stereotype.Service;
-
-@RequiredArgsConstructor
-@Service
-public class RefreshTokenService {
-
-    private final RefreshTokenRepository refreshTokenRepository;
-
-    public RefreshToken findByRefreshToken(String refreshToken) {
-        return refreshTokenRepository.findByRefreshToken(refreshToken)
-                .orElseThrow(() -> new IllegalArgumentException("Unexpected token"));
-    }
-}
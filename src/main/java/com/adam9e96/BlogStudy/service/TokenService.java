@@ -1,29 +1,108 @@
 package com.adam9e96.BlogStudy.service;
 
+import com.adam9e96.BlogStudy.config.jwt.JwtProperties;
+import com.adam9e96.BlogStudy.config.jwt.TokenDigests;
 import com.adam9e96.BlogStudy.config.jwt.TokenProvider;
-import com.adam9e96.BlogStudy.domain.User;
+import com.adam9e96.BlogStudy.config.jwt.TokenValidationResult;
+import com.adam9e96.BlogStudy.domain.RefreshToken;
+import com.adam9e96.BlogStudy.dto.CreateAccessTokenResponse;
+import com.adam9e96.BlogStudy.dto.UserSnapshot;
+import com.adam9e96.BlogStudy.repository.RefreshTokenRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
 
+@Slf4j
 @RequiredArgsConstructor
+@Timed("service.invocations") // 모든 public 메서드의 실행 시간 (class, method, exception 태그)
 @Service
 public class TokenService {
 
     private final TokenProvider tokenProvider;
-    private final RefreshTokenService refreshTokenService;
+    private final RefreshTokenRepository refreshTokenRepository;
     private final UserService userService;
+    private final JwtProperties jwtProperties;
 
-    // 리프레시 토큰을 검증하고 새로운 액세스 토큰을 생성하는 로직
-    public String createNewAccessToken(String refreshToken) {
-        // 토큰 유효성 검사에 실패하면 예외 발생
-        if (!tokenProvider.validToken(refreshToken)) {
+    /**
+     * 리프레시 토큰을 검증하고 새 액세스 토큰과 새 리프레시 토큰을 발급합니다(rotation).
+     *
+     * <p>
+     * 저장된 리프레시 토큰은 조건부 UPDATE 한 문장으로 새 토큰과 교체하므로(별도 조회나 행 잠금 없음),
+     * 같은 토큰으로 동시에 요청해도 한 요청만 성공하고 요청에 사용한 토큰은 더 이상 사용할 수 없습니다.
+     * 새 토큰은 보낸 토큰과 같은 family id 를 가지며, family id 가 없는 토큰이면 새 family 를 시작합니다.
+     * </p>
+     *
+     * <p>
+     * 교체에 실패하면 보낸 토큰이 같은 family 의 지난 토큰인지 확인합니다.
+     * 직전에 교체된 토큰이고 {@code jwt.refresh-token-reuse-grace} 안이면 동시에 보낸 요청으로 보고 거절만 합니다.
+     * 그 밖에 같은 family 의 지난 토큰(몇 번 전에 교체되었든)이 사용되면 탈취된 토큰이 재사용된 것으로 보고
+     * 사용자의 리프레시 토큰을 폐기합니다. 탈취한 쪽이 먼저 여러 번 교체했더라도 원래 사용자가 이전 토큰을 쓰는 순간 폐기됩니다.
+     * </p>
+     *
+     * @param refreshToken 클라이언트가 보낸 리프레시 토큰
+     * @return 새 액세스 토큰과 새 리프레시 토큰
+     * @throws IllegalArgumentException 토큰이 유효하지 않거나, 이미 교체되었거나, 폐기된 경우
+     */
+    public CreateAccessTokenResponse createNewAccessToken(String refreshToken) {
+        // 토큰 유효성 검사에 실패하면 예외 발생 (토큰은 한 번만 파싱)
+        TokenValidationResult result = tokenProvider.verify(refreshToken);
+        if (!result.isValid()) {
             throw new IllegalArgumentException("Unexpected token");
         }
-        Long userId = refreshTokenService.findByRefreshToken(refreshToken).getUserId();
-        User user = userService.findById(userId);
+        Long userId = tokenProvider.getUserId(result.getClaims());
+        if (userId == null) {
+            throw new IllegalArgumentException("Unexpected token");
+        }
+        UserSnapshot user = userService.findSnapshotById(userId);
+
+        String tokenHash = TokenDigests.sha256Hex(refreshToken);
+        String familyId = tokenProvider.getRefreshTokenFamily(result.getClaims());
+        String newFamilyId = familyId != null ? familyId : UUID.randomUUID().toString();
+        String newRefreshToken = tokenProvider.generateRefreshToken(user, newFamilyId, RefreshToken.DEFAULT_TTL);
+        LocalDateTime now = LocalDateTime.now();
+        int rotated = refreshTokenRepository.rotate(userId, tokenHash, TokenDigests.sha256Hex(newRefreshToken),
+                newFamilyId, now.plus(RefreshToken.DEFAULT_TTL), now);
+        if (rotated == 0) {
+            rejectStaleToken(userId, tokenHash, familyId, now);
+        }
+
+        return new CreateAccessTokenResponse(tokenProvider.generateToken(user, Duration.ofHours(2)), newRefreshToken);
+    }
 
-        return tokenProvider.generateToken(user, Duration.ofHours(2));
+    /**
+     * 교체에 실패한 리프레시 토큰이 현재 family 의 지난 토큰인지 확인하고, 재사용이면 사용자의 리프레시 토큰을 폐기합니다.
+     *
+     * <p>
+     * family id 가 없는 토큰(family 가 생기기 전에 발급된 토큰)은 직전에 교체된 토큰인 경우에만 재사용으로 알아볼 수 있습니다.
+     * 다른 family 의 토큰(이미 폐기된 family 등)이나 리프레시 토큰이 아닌 토큰은 거절만 합니다.
+     * </p>
+     *
+     * @throws IllegalArgumentException 항상 발생
+     */
+    private void rejectStaleToken(Long userId, String tokenHash, String familyId, LocalDateTime now) {
+        RefreshToken current = refreshTokenRepository.findByUserId(userId).orElse(null);
+        if (current == null) {
+            throw new IllegalArgumentException("Unexpected token");
+        }
+        if (tokenHash.equals(current.getTokenHash())) {
+            throw new IllegalArgumentException("Refresh token expired"); // 현재 토큰이지만 저장된 만료 시간이 지남
+        }
+        boolean previous = tokenHash.equals(current.getPreviousHash());
+        boolean sameFamily = familyId != null && familyId.equals(current.getFamilyId());
+        if (!previous && !sameFamily) {
+            throw new IllegalArgumentException("Unexpected token");
+        }
+        if (previous && now.isBefore(current.getRotatedAt().plus(jwtProperties.getRefreshTokenReuseGrace()))) {
+            throw new IllegalArgumentException("Refresh token already rotated");
+        }
+        refreshTokenRepository.revokeByUserId(userId);
+        log.warn("Refresh token reuse detected, revoked refresh token: userId={}, familyId={}",
+                userId, current.getFamilyId());
+        throw new IllegalArgumentException("Refresh token reused");
     }
-}
\ No newline at end of file
+}
@@ -4,6 +4,7 @@ package com.adam9e96.BlogStudy.service;
 import com.adam9e96.BlogStudy.domain.User;
 import com.adam9e96.BlogStudy.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
@@ -47,12 +48,25 @@ public class UserDetailService implements UserDetailsService {
      * 사용자의 이메일을 통해 데이터베이스에서 {@link User} 엔티티를 조회하고,
      * {@link UserDetails} 형태로 반환합니다.
      * </p>
+     * <p>
+     * 조회한 사용자는 {@link UserService#USER_EMAIL_CACHE} 캐시에 보관하므로 같은 사용자가 다시 로그인하면
+     * 데이터베이스를 조회하지 않습니다. 캐시 적중/실패 수는 {@code cache.gets{cache=usersByEmail}} 메트릭으로 확인할 수 있습니다.
+     * 사용자가 없을 때는 예외가 발생하므로 캐시에 저장되지 않습니다.
+     * </p>
+     * <p>
+     * 인증할 때 입력한 패스워드를 해시와 비교해야 하므로 이 캐시에는 패스워드 해시가 담긴 사용자를 그대로 보관합니다.
+     * 캐시는 애플리케이션 메모리 안의 Caffeine 캐시로, 이미 메모리에 올라오는 엔티티와 같은 값을 만료 시간 동안 더 가지고 있을 뿐입니다.
+     * 해시는 BCrypt 로 솔트가 들어가 있어 그대로 로그인에 쓸 수 없습니다.
+     * 다만 {@code spring.cache.type} 을 Redis 같은 공유 캐시로 바꾸면 해시가 캐시 서버에 저장되므로, 그때는 이 캐시를 빼야 합니다.
+     * {@link User} 는 {@code CredentialsContainer} 를 구현하지 않으므로 인증 후 자격 증명을 지울 때 캐시된 사용자의 해시가 지워지지 않습니다.
+     * </p>
      *
      * @param email 인증에 사용할 사용자의 이메일 주소.
      * @return {@link UserDetails} 형태의 사용자 정보.
      * @throws IllegalArgumentException 사용자를 찾을 수 없을 경우 발생.
      */
     @Override
+    @Cacheable(cacheNames = UserService.USER_EMAIL_CACHE, key = "#email")
     public UserDetails loadUserByUsername(String email) {
         return userRepository.findByEmail(email)
                 .orElseThrow(() ->
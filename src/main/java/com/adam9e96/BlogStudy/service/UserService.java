@@ -2,36 +2,76 @@ package com.adam9e96.BlogStudy.service;
 
 import com.adam9e96.BlogStudy.domain.User;
 import com.adam9e96.BlogStudy.dto.AddUserRequest;
+import com.adam9e96.BlogStudy.dto.UserSnapshot;
 import com.adam9e96.BlogStudy.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 /**
  * AddUserRequest 객체를 인수로 받는 addUser 메서드를 가지고 있는 UserService 클래스입니다.
+ *
+ * <p>
+ * 사용자 정보는 id 로 찾는 {@value #USER_CACHE} 캐시와 이메일로 찾는 {@value #USER_EMAIL_CACHE} 캐시에 보관합니다.
+ * 사용자를 저장하는 경로는 회원 가입({@link #save})뿐이며 변경하거나 삭제하는 경로는 없습니다.
+ * 새 사용자의 id 는 아직 캐시에 없으므로 가입할 때는 이메일 키만 무효화합니다.
+ * 사용자를 변경하거나 삭제하는 기능을 추가한다면 그 메서드에서 두 캐시를 모두 무효화해야 합니다.
+ * </p>
+ *
+ * <p>
+ * {@value #USER_CACHE} 캐시에는 패스워드 해시가 없는 {@link UserSnapshot} 만 보관합니다.
+ * 로그인에 쓰는 {@value #USER_EMAIL_CACHE} 캐시는 패스워드를 검증해야 하므로 해시가 담긴 사용자를 보관합니다
+ * ({@link UserDetailService#loadUserByUsername} 참고).
+ * </p>
  */
 @RequiredArgsConstructor
 @Service
 public class UserService {
 
+    /**
+     * id 로 조회한 사용자 캐시 이름 ({@code spring.cache.cache-names} 에 등록)
+     */
+    public static final String USER_CACHE = "users";
+
+    /**
+     * 이메일로 조회한 사용자 캐시 이름 ({@code spring.cache.cache-names} 에 등록)
+     */
+    public static final String USER_EMAIL_CACHE = "usersByEmail";
+
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final PasswordEncoder passwordEncoder;
 
+    @CacheEvict(cacheNames = USER_EMAIL_CACHE, key = "#dto.email")
     public Long save(AddUserRequest dto) {
         return userRepository.save(User.builder()
                 .email(dto.getEmail())
-                // 패스워드 암호화
-                .password(bCryptPasswordEncoder.encode(dto.getPassword()))
+                // 패스워드 암호화 (해시 스레드가 부족하면 PasswordHashingBusyException)
+                .password(passwordEncoder.encode(dto.getPassword()))
                 .build()).getId();
     }
 
     // 메서드 추가 JWT
     //
-    public User findById(Long userId) {
+
+    /**
+     * id 로 사용자 스냅샷을 조회합니다.
+     * <p>
+     * 토큰을 재발급할 때마다 호출되므로 {@value #USER_CACHE} 캐시를 먼저 조회합니다.
+     * 토큰에는 id 와 이메일만 담으므로 패스워드 해시가 없는 스냅샷을 캐시에 저장합니다.
+     * 게시물 캐시와 같은 이유로 {@code sync = true} 는 사용하지 않습니다.
+     * </p>
+     *
+     * @param userId 사용자 id
+     * @return 사용자 스냅샷
+     * @throws IllegalArgumentException 사용자가 없을 경우 (캐시에 저장하지 않음)
+     */
+    @Cacheable(cacheNames = USER_CACHE, key = "#userId")
+    public UserSnapshot findSnapshotById(Long userId) {
         return userRepository.findById(userId)
+                .map(UserSnapshot::from)
                 .orElseThrow(() -> new IllegalArgumentException("Unexpected User"));
-
     }
 
 }
-
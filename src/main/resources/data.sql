@@ -1,3 +1,3 @@
-INSERT INTO article (title, content,created_at,updated_at) VALUES ( '첫 번째 글', '첫 번째 글의 내용입니다.',NOW(),NOW());
-INSERT INTO article (title, content,created_at,updated_at) VALUES ( '두 번째 글', '두 번째 글의 내용입니다.',NOW(),NOW());
-INSERT INTO article (title, content,created_at,updated_at) VALUES ( '세 번째 글', '세 번째 글의 내용입니다.',NOW(),NOW());
+INSERT INTO article (id, title, content,created_at,updated_at,version) VALUES (NEXT VALUE FOR article_seq, '첫 번째 글', '첫 번째 글의 내용입니다.',NOW(),NOW(),0);
+INSERT INTO article (id, title, content,created_at,updated_at,version) VALUES (NEXT VALUE FOR article_seq, '두 번째 글', '두 번째 글의 내용입니다.',NOW(),NOW(),0);
+INSERT INTO article (id, title, content,created_at,updated_at,version) VALUES (NEXT VALUE FOR article_seq, '세 번째 글', '세 번째 글의 내용입니다.',NOW(),NOW(),0);
@@ -40,6 +40,8 @@ if (deleteButton) {
  * 수정 기능을 담당하는 코드입니다.
  * modifyButton 요소를 찾아 클릭 이벤트 리스너를 추가합니다.
  * 수정 시 제목과 내용을 가져와서 PUT 요청을 보냅니다.
+ * 화면을 열 때 읽은 버전(ETag)을 If-Match 헤더로 보내므로, 그 사이에 다른 사용자가 먼저 수정했다면
+ * 덮어쓰지 않고 412(또는 409)로 거절됩니다.
  * 요청이 완료되면 알림을 표시하고 해당 글 페이지로 이동합니다.
  */
 const modifyButton = document.getElementById('modify-btn');
@@ -51,21 +53,35 @@ if (modifyButton) {
     modifyButton.addEventListener('click', event => {
         let param = new URLSearchParams(location.search);
         let id = param.get('id');
+        let headers = {
+            "Content-Type": "application/json",
+        };
+        let eTag = document.getElementById('article-etag').value;
+        if (eTag) {
+            headers['If-Match'] = eTag;
+        }
 
         fetch(`/api/articles/${id}`, {
             method: 'PUT',
-            headers: {
-                "Content-Type": "application/json",
-            },
+            headers: headers,
             body: JSON.stringify({
                 title: document.getElementById('title').value,
                 content: document.getElementById('content').value
             })
         })
-            .then(() => {
-                alert('수정이 완료되었습니다.');
-                location.replace(`/articles/${id}`);
-            });
+            .then(response => {
+                if (response.ok) {
+                    alert('수정이 완료되었습니다.');
+                    location.replace(`/articles/${id}`);
+                } else if (response.status === 412 || response.status === 409) {
+                    alert('다른 사용자가 먼저 글을 수정했습니다. 페이지를 새로고침해 최신 내용을 확인한 뒤 다시 수정해 주세요.');
+                } else {
+                    alert('글 수정에 실패했습니다.');
+                }
+            }).catch(error => {
+            console.error('글 수정 중 에러 발생:', error);
+            alert('글 수정에 실패했습니다.');
+        });
     });
 }
 
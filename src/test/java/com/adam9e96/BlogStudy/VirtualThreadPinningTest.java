@@ -0,0 +1,136 @@
+package com.adam9e96.BlogStudy;
+
+import com.adam9e96.BlogStudy.config.jwt.JwtFactory;
+import com.adam9e96.BlogStudy.config.jwt.JwtProperties;
+import com.adam9e96.BlogStudy.domain.Article;
+import com.adam9e96.BlogStudy.dto.UpdateArticleRequest;
+import com.adam9e96.BlogStudy.repository.BlogRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * 가상 스레드 모드({@code virtual} 프로필)에서 요청 처리 경로가 캐리어 스레드를 고정(pinning)하지 않는지 확인하는 테스트입니다.
+ * <p>
+ * 가상 스레드가 {@code synchronized} 블록 안에서 대기하면 캐리어(플랫폼) 스레드를 붙잡아 다른 가상 스레드가 실행되지 못합니다.
+ * JFR 의 {@code jdk.VirtualThreadPinned} 이벤트를 임계값 없이 기록하면서 인증 필터, 컨트롤러, JPA, H2 JDBC 드라이버를 거치는
+ * 요청을 여러 가상 스레드에서 동시에 실행하고, 고정된 적이 한 번도 없는지 확인합니다.
+ * </p>
+ */
+@SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadPinningTest {
+
+    private static final int CONCURRENCY = 64;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private JwtProperties jwtProperties;
+
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * <ul>
+     *     <li> given : 글 하나와 액세스 토큰을 준비하고, JFR 로 가상 스레드 고정 이벤트를 기록하기 시작합니다.</li>
+     *     <li> when : 가상 스레드 {@value #CONCURRENCY}개에서 글 목록/단건 조회와 수정 API를 동시에 호출합니다.</li>
+     *     <li> then : 가상 스레드 고정 이벤트가 하나도 기록되지 않았는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("가상 스레드에서 API 요청을 처리해도 캐리어 스레드가 고정되지 않는다.")
+    @Test
+    void apiRequests_doNotPinCarrierThreads() throws Exception {
+        // given
+        MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+        String authorization = "Bearer " + JwtFactory.withDefaultValues().createToken(jwtProperties);
+        Article article = blogRepository.save(Article.builder().title("title").content("content").build());
+        String updateBody = objectMapper.writeValueAsString(new UpdateArticleRequest("title", "content"));
+
+        List<String> pinned = new CopyOnWriteArrayList<>();
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.onEvent("jdk.VirtualThreadPinned", event -> {
+                if (!isTestHarnessOutput(event)) {
+                    pinned.add(describe(event));
+                }
+            });
+            recording.startAsync();
+
+            // when
+            ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+            try {
+                List<Future<?>> requests = new ArrayList<>();
+                for (int i = 0; i < CONCURRENCY; i++) {
+                    requests.add(executor.submit(() -> {
+                        mockMvc.perform(get("/api/articles").header("Authorization", authorization));
+                        mockMvc.perform(get("/api/articles/{id}", article.getId()).header("Authorization", authorization));
+                        mockMvc.perform(put("/api/articles/{id}", article.getId())
+                                .header("Authorization", authorization)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(updateBody));
+                        return null;
+                    }));
+                }
+                // 캐리어 스레드가 모두 고정되면 요청이 끝나지 않으므로 제한 시간을 둔다.
+                for (Future<?> request : requests) {
+                    request.get(TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            recording.stop();
+        }
+
+        // then
+        assertThat(pinned).as("pinned virtual threads").isEmpty();
+    }
+
+    /**
+     * Gradle 테스트 실행기가 System.out 을 가로채는 스트림은 {@code synchronized} 로 구현되어 있어,
+     * 요청 처리 중 SQL/로그를 콘솔에 쓰다가 고정될 수 있습니다. 운영 환경에는 없는 경로이므로 제외합니다.
+     */
+    private static boolean isTestHarnessOutput(RecordedEvent event) {
+        return event.getStackTrace() != null && event.getStackTrace().getFrames().stream()
+                .anyMatch(frame -> frame.getMethod().getType().getName().startsWith("org.gradle."));
+    }
+
+    private static String describe(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return event.toString();
+        }
+        return event.getStackTrace().getFrames().stream()
+                .limit(15)
+                .map(RecordedFrame::getMethod)
+                .map(method -> method.getType().getName() + "." + method.getName())
+                .collect(Collectors.joining("\n  ", "pinned at\n  ", ""));
+    }
+}
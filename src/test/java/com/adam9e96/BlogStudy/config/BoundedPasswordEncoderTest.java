@@ -0,0 +1,90 @@
+package com.adam9e96.BlogStudy.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    private static BlogProperties.Password properties(int threads, int queueCapacity) {
+        BlogProperties.Password properties = new BlogProperties.Password();
+        properties.setThreads(threads);
+        properties.setQueueCapacity(queueCapacity);
+        return properties;
+    }
+
+    @DisplayName("encode()/matches(): 해시 스레드에서 BCrypt 해시를 만들고 검증한다.")
+    @Test
+    void encodeAndMatches() {
+        // given
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4),
+                properties(1, 1), new SimpleMeterRegistry());
+
+        // when
+        String encoded = encoder.encode("password");
+
+        // then
+        assertThat(encoder.matches("password", encoded)).isTrue();
+        assertThat(encoder.matches("wrong", encoded)).isFalse();
+        encoder.destroy();
+    }
+
+    /**
+     * <ul>
+     *     <li> given : 해시 스레드 1개, 대기열 1칸인 인코더에서 스레드와 대기열을 모두 채웁니다.</li>
+     *     <li> when : 해시를 한 번 더 요청합니다.</li>
+     *     <li> then : 기다리지 않고 바로 거절되며 거절 카운터가 증가하는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("encode(): 해시 스레드와 대기열이 가득 차면 기다리지 않고 거절한다.")
+    @Test
+    void encode_rejectedWhenQueueIsFull() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "encoded";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return false;
+            }
+        };
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blocking, properties(1, 1), meterRegistry);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+        while (meterRegistry.get("executor.queued").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // when & then
+        assertThatThrownBy(() -> encoder.encode("c")).isInstanceOf(PasswordHashingBusyException.class);
+        assertThat(meterRegistry.get("password.hashing.rejected")
+                .tag("operation", "encode").tag("reason", "queue_full").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("encoded");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("encoded");
+        encoder.destroy();
+    }
+}
@@ -0,0 +1,149 @@
+package com.adam9e96.BlogStudy.config;
+
+import com.adam9e96.BlogStudy.config.jwt.JwtFactory;
+import com.adam9e96.BlogStudy.config.jwt.JwtProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.Duration;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureObservability // 테스트에서는 기본적으로 꺼지는 프로메테우스 메트릭 내보내기를 켬
+@SpringBootTest
+class WebSecurityConfigTest {
+
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private JwtProperties jwtProperties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * 스프링 시큐리티 필터 체인을 적용한 MockMvc 객체를 생성합니다.
+     */
+    @BeforeEach
+    public void mockMvcSetup() {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(this.context)
+                .apply(springSecurity())
+                .build();
+    }
+
+    /**
+     * <ul>
+     *     <li> given : jjwt 라이브러리를 사용해 유효한 액세스 토큰을 생성합니다.</li>
+     *     <li> when : Authorization 헤더에 토큰을 담아 글 목록 API를 호출합니다.</li>
+     *     <li> then : 응답 코드가 200 OK 이고, 요청 처리 중 세션이 만들어지지 않았는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("apiFilterChain: 토큰으로 API를 호출하면 세션 없이 인증된다.")
+    @Test
+    void apiRequest_withToken() throws Exception {
+        // given
+        String token = JwtFactory.withDefaultValues().createToken(jwtProperties);
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/articles")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then
+        assertThat(result.getRequest().getSession(false)).isNull();
+    }
+
+    @DisplayName("apiFilterChain: 토큰 없이 API를 호출하면 로그인 페이지 대신 401을 반환한다.")
+    @Test
+    void apiRequest_withoutToken() throws Exception {
+        mockMvc.perform(get("/api/articles"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    /**
+     * <ul>
+     *     <li> given : 현재 인증 실패 카운터 값을 기록해 둡니다.</li>
+     *     <li> when : 형식이 잘못된 토큰과 만료된 토큰으로 API를 호출합니다.</li>
+     *     <li> then : 실패 원인별 카운터가 각각 1씩 증가했는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("TokenAuthenticationFilter: 인증 실패 원인별로 카운터를 기록한다.")
+    @Test
+    void apiRequest_rejectedMetrics() throws Exception {
+        // given
+        double malformed = rejectedCount("malformed");
+        double expired = rejectedCount("expired");
+        String expiredToken = JwtFactory.builder()
+                .expiration(new Date(new Date().getTime() - Duration.ofDays(7).toMillis()))
+                .build().createToken(jwtProperties);
+
+        // when
+        mockMvc.perform(get("/api/articles").header("Authorization", "Bearer not-a-jwt"));
+        mockMvc.perform(get("/api/articles").header("Authorization", "Bearer " + expiredToken));
+
+        // then
+        assertThat(rejectedCount("malformed")).isEqualTo(malformed + 1);
+        assertThat(rejectedCount("expired")).isEqualTo(expired + 1);
+    }
+
+    private double rejectedCount(String reason) {
+        return meterRegistry.get("jwt.authentication.rejected").tag("reason", reason).counter().count();
+    }
+
+    @DisplayName("filterChain: 인증되지 않은 화면 요청은 로그인 페이지로 이동한다.")
+    @Test
+    void viewRequest_withoutLogin() throws Exception {
+        mockMvc.perform(get("/articles"))
+                .andExpect(status().is3xxRedirection());
+    }
+
+    /**
+     * <ul>
+     *     <li> given : 토큰으로 글 목록 API를 호출해 서비스와 저장소 메서드를 한 번 실행합니다.</li>
+     *     <li> when : 로그인 없이 /actuator/prometheus 를 호출합니다.</li>
+     *     <li> then : 서비스·저장소 실행 시간 히스토그램과 커넥션 풀, JVM 메트릭이 프로메테우스 형식으로 반환되는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("actuatorFilterChain: 프로메테우스 수집 엔드포인트는 인증 없이 메트릭을 반환한다.")
+    @Test
+    void actuatorPrometheus_withoutLogin() throws Exception {
+        // given
+        String token = JwtFactory.withDefaultValues().createToken(jwtProperties);
+        mockMvc.perform(get("/api/articles").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        // when & then
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("service_invocations_seconds_bucket{application=\"BlogStudy\",class=\"com.adam9e96.BlogStudy.service.BlogServiceImpl\"")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_bucket")))
+                .andExpect(content().string(containsString("hikaricp_connections_active")))
+                .andExpect(content().string(containsString("jvm_memory_used_bytes")));
+    }
+
+    @DisplayName("actuatorFilterChain: 그 밖의 액추에이터 엔드포인트는 로그인 페이지 대신 401을 반환한다.")
+    @Test
+    void actuatorMetrics_withoutLogin() throws Exception {
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -165,4 +165,81 @@ class TokenProviderTest {
         // then
         assertThat(userIdByToken).isEqualTo(userId);
     }
+
+    /**
+     * <ul>
+     *     <li> given : 별도의 JwtProperties 로 토큰 제공자를 만들고 토큰을 발급합니다.</li>
+     *     <li> when : 비밀 키 설정을 다른 값으로 바꿉니다.</li>
+     *     <li> then : 캐시된 키 대신 새 키로 검증하므로 기존 토큰은 유효하지 않습니다.</li>
+     * </ul>
+     */
+    @DisplayName("validToken(): 비밀 키 설정이 바뀌면 새 키로 검증한다.")
+    @Test
+    void validToken_secretKeyRefreshed() {
+        // given
+        JwtProperties properties = new JwtProperties();
+        properties.setIssuer(jwtProperties.getIssuer());
+        properties.setSecretKey(jwtProperties.getSecretKey());
+        TokenProvider provider = new TokenProvider(properties);
+        String token = provider.generateToken(User.builder()
+                .email("user@gmail.com")
+                .password("test")
+                .build(), Duration.ofDays(14));
+
+        // when
+        properties.setSecretKey("ThisIsAnotherSecretKeyThatIsDefinitelyLongEnough0987");
+
+        // then
+        assertThat(provider.validToken(token)).isFalse();
+    }
+
+    // verify() 검증 테스트
+
+    /**
+     * <ul>
+     *     <li> given : 유효한 토큰을 생성합니다.</li>
+     *     <li> when : 토큰 제공자의 verify() 메서드를 호출합니다.</li>
+     *     <li> then : 검증에 성공하고, 결과에 담긴 클레임의 subject 가 토큰을 만들 때 설정한 값과 같은지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("verify(): 유효한 토큰이면 검증된 클레임을 함께 반환한다.")
+    @Test
+    void verify_validToken() {
+        // given
+        String userEmail = "user@email.com";
+        String token = JwtFactory.builder()
+                .subject(userEmail)
+                .build()
+                .createToken(jwtProperties);
+
+        // when
+        TokenValidationResult result = tokenProvider.verify(token);
+
+        // then
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.getClaims().getSubject()).isEqualTo(userEmail);
+    }
+
+    @DisplayName("verify(): 검증에 실패하면 실패 원인을 반환한다.")
+    @Test
+    void verify_failureStatus() {
+        // given
+        String expiredToken = JwtFactory.builder()
+                .expiration(new Date(new Date().getTime() - Duration.ofDays(7).toMillis()))
+                .build().createToken(jwtProperties);
+
+        JwtProperties otherProperties = new JwtProperties();
+        otherProperties.setSecretKey("ThisIsAnotherSecretKeyThatIsDefinitelyLongEnough0987");
+        String badSignatureToken = JwtFactory.withDefaultValues().createToken(otherProperties);
+
+        // when & then
+        assertThat(tokenProvider.verify(null).getStatus())
+                .isEqualTo(TokenValidationResult.Status.MISSING);
+        assertThat(tokenProvider.verify(expiredToken).getStatus())
+                .isEqualTo(TokenValidationResult.Status.EXPIRED);
+        assertThat(tokenProvider.verify(badSignatureToken).getStatus())
+                .isEqualTo(TokenValidationResult.Status.BAD_SIGNATURE);
+        assertThat(tokenProvider.verify("not-a-jwt").getStatus())
+                .isEqualTo(TokenValidationResult.Status.MALFORMED);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.adam9e96.BlogStudy.config.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.time.Duration;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private static VerifiedTokenCache cache(boolean enabled) {
+        JwtProperties properties = new JwtProperties();
+        properties.getCache().setEnabled(enabled);
+        properties.getCache().setMaximumSize(100);
+        return new VerifiedTokenCache(properties);
+    }
+
+    /**
+     * <ul>
+     *     <li> given : 캐시를 사용하도록 설정하고, 만료되지 않은 토큰의 인증 정보를 저장합니다.</li>
+     *     <li> when : 같은 토큰으로 두 번, 다른 토큰으로 한 번 조회합니다.</li>
+     *     <li> then : 같은 토큰은 저장한 인증 정보를 반환하고, 적중/실패 횟수가 기록되는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("get(): 검증된 토큰의 인증 정보를 캐시에서 가져올 수 있다.")
+    @Test
+    void get_cachedAuthentication() {
+        // given
+        VerifiedTokenCache cache = cache(true);
+        Authentication authentication = new UsernamePasswordAuthenticationToken("user@gmail.com", "token");
+        cache.put("token", authentication, new Date(System.currentTimeMillis() + Duration.ofHours(2).toMillis()));
+
+        // when
+        Authentication first = cache.get("token");
+        Authentication second = cache.get("token");
+        Authentication other = cache.get("other-token");
+
+        // then
+        assertThat(first).isSameAs(authentication);
+        assertThat(second).isSameAs(authentication);
+        assertThat(other).isNull();
+        assertThat(cache.stats().hitCount()).isEqualTo(2);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+    }
+
+    @DisplayName("put(): 이미 만료된 토큰은 캐시에 저장하지 않는다.")
+    @Test
+    void put_expiredToken() {
+        // given
+        VerifiedTokenCache cache = cache(true);
+        Authentication authentication = new UsernamePasswordAuthenticationToken("user@gmail.com", "token");
+
+        // when
+        cache.put("token", authentication, new Date(System.currentTimeMillis() - 1000));
+
+        // then
+        assertThat(cache.get("token")).isNull();
+    }
+
+    @DisplayName("get(): 캐시를 사용하지 않도록 설정하면 항상 null 을 반환한다.")
+    @Test
+    void get_disabled() {
+        // given
+        VerifiedTokenCache cache = cache(false);
+        Authentication authentication = new UsernamePasswordAuthenticationToken("user@gmail.com", "token");
+
+        // when
+        cache.put("token", authentication, new Date(System.currentTimeMillis() + Duration.ofHours(2).toMillis()));
+
+        // then
+        assertThat(cache.isEnabled()).isFalse();
+        assertThat(cache.get("token")).isNull();
+    }
+}
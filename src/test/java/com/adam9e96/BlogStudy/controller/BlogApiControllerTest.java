@@ -1,10 +1,16 @@
 package com.adam9e96.BlogStudy.controller;
 
+import com.adam9e96.BlogStudy.config.BlogProperties;
 import com.adam9e96.BlogStudy.domain.Article;
 import com.adam9e96.BlogStudy.dto.AddArticleRequest;
+import com.adam9e96.BlogStudy.dto.ArticleSnapshot;
 import com.adam9e96.BlogStudy.dto.UpdateArticleRequest;
 import com.adam9e96.BlogStudy.repository.BlogRepository;
+import com.adam9e96.BlogStudy.service.ArticleSearchService;
+import com.adam9e96.BlogStudy.service.BlogServiceImpl;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,17 +19,36 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 
@@ -45,9 +70,27 @@ class BlogApiControllerTest {
     @Autowired
     private WebApplicationContext context;
 
-    @Autowired
+    @MockitoSpyBean // 실제 리포지토리를 그대로 쓰되, 동시 캐시 미스 테스트에서만 조회를 잠시 붙잡는다.
     BlogRepository blogRepository;
 
+    @Autowired
+    BlogServiceImpl blogService;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    BlogProperties blogProperties;
+
+    @MockitoSpyBean // 실제 빈을 그대로 쓰되, 수정 도중에 다른 수정을 끼워 넣는 테스트에서만 동작을 바꾼다.
+    ArticleSearchService articleSearchService;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    CacheManager cacheManager;
+
     @BeforeEach
     public void mockMvcSetup() {
         this.mockMvc = MockMvcBuilders.webAppContextSetup(this.context).build();
@@ -94,6 +137,123 @@ class BlogApiControllerTest {
         assertThat(articles.get(0).getContent()).isEqualTo(content);
     }
 
+    /**
+     * <h2>BULK CREATE</h2>
+     * given : 제목이 없는 항목 하나를 포함해 블로그 글 추가 요청 3개를 JSON 배열로 만듭니다.
+     * when  : 대량 추가 API에 요청을 보냅니다.
+     * then : 응답 코드가 200 OK 이고, 유효한 2개만 저장되며 항목별 결과가 요청 순서대로 담겼는지 확인합니다.
+     */
+    @DisplayName("bulkAddArticles: JSON 배열로 블로그 글을 대량 추가하고 항목별 결과를 반환한다.")
+    @Test
+    public void bulkAddArticles_jsonArray() throws Exception {
+        // given
+        final String url = "/api/articles/bulk";
+        final String requestBody = objectMapper.writeValueAsString(List.of(
+                new AddArticleRequest("title1", "content1"),
+                new AddArticleRequest(null, "content2"),
+                new AddArticleRequest("title3", "content3")));
+
+        // when
+        ResultActions result = this.mockMvc.perform(post(url)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBody));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].id").isNumber())
+                .andExpect(jsonPath("$.results[1].error").value("title is required"))
+                .andExpect(jsonPath("$.results[2].index").value(2));
+
+        List<Article> articles = blogRepository.findAll();
+        assertThat(articles).extracting(Article::getTitle).containsExactlyInAnyOrder("title1", "title3");
+    }
+
+    @DisplayName("bulkAddArticles: NDJSON 으로 블로그 글을 대량 추가한다.")
+    @Test
+    public void bulkAddArticles_ndjson() throws Exception {
+        // given
+        final String url = "/api/articles/bulk";
+        final String requestBody = objectMapper.writeValueAsString(new AddArticleRequest("title1", "content1"))
+                + "\n" + objectMapper.writeValueAsString(new AddArticleRequest("title2", "content2")) + "\n";
+
+        // when
+        ResultActions result = this.mockMvc.perform(post(url)
+                .contentType("application/x-ndjson")
+                .content(requestBody));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(0));
+        assertThat(blogRepository.count()).isEqualTo(2);
+    }
+
+    /**
+     * <ul>
+     *     <li> given : 가운데 항목의 제목이 문자열이 아닌 객체인 JSON 배열을 만듭니다.</li>
+     *     <li> when : 대량 추가 API에 요청을 보냅니다.</li>
+     *     <li> then : 서버 오류 없이 가운데 항목만 실패로 기록되고, 그 뒤 항목까지 저장되는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("bulkAddArticles: 타입이 맞지 않는 항목은 실패로 기록하고 다음 항목을 계속 저장한다.")
+    @Test
+    public void bulkAddArticles_invalidItem() throws Exception {
+        // given
+        final String requestBody = "["
+                + objectMapper.writeValueAsString(new AddArticleRequest("title1", "content1")) + ","
+                + "{\"title\":{\"text\":\"title2\"},\"content\":\"content2\"},"
+                + objectMapper.writeValueAsString(new AddArticleRequest("title3", "content3")) + "]";
+
+        // when
+        ResultActions result = this.mockMvc.perform(post("/api/articles/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBody));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[1].index").value(1))
+                .andExpect(jsonPath("$.results[1].error").value(startsWith("invalid item")))
+                .andExpect(jsonPath("$.results[2].id").isNumber());
+        assertThat(blogRepository.findAll()).extracting(Article::getTitle)
+                .containsExactlyInAnyOrder("title1", "title3");
+    }
+
+    /**
+     * <ul>
+     *     <li> given : 세 번째 항목 중간에서 잘린 JSON 배열을 만듭니다.</li>
+     *     <li> when : 대량 추가 API에 요청을 보냅니다.</li>
+     *     <li> then : 앞의 두 항목은 저장된 id 와 함께, 잘린 위치는 실패로 담긴 결과가 반환되는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("bulkAddArticles: 본문이 중간에 잘리면 앞 항목까지 저장하고 저장한 id 를 반환한다.")
+    @Test
+    public void bulkAddArticles_truncatedBody() throws Exception {
+        // given
+        final String requestBody = "["
+                + objectMapper.writeValueAsString(new AddArticleRequest("title1", "content1")) + ","
+                + objectMapper.writeValueAsString(new AddArticleRequest("title2", "content2")) + ","
+                + "{\"title\":\"tit";
+
+        // when
+        ResultActions result = this.mockMvc.perform(post("/api/articles/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBody));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].id").isNumber())
+                .andExpect(jsonPath("$.results[1].id").isNumber())
+                .andExpect(jsonPath("$.results[2].index").value(2))
+                .andExpect(jsonPath("$.results[2].error").value(startsWith("malformed request body")));
+        assertThat(blogRepository.count()).isEqualTo(2);
+    }
+
     /**
      * <h3>
      * 블로그 글 전체 조회 테스트
@@ -125,10 +285,176 @@ class BlogApiControllerTest {
         // then
         result
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].content").value(content))
+                .andExpect(jsonPath("$[0].id").isNumber())
+                .andExpect(jsonPath("$[0].excerpt").value(content))
                 .andExpect(jsonPath("$[0].title").value(title));
     }
 
+    /**
+     * <h3>
+     * 블로그 글 목록 커서 페이지 조회 테스트
+     * </h3>
+     * <ul>
+     *     <li> Given : 블로그 글 3개를 저장합니다.</li>
+     *     <li> When : 페이지 크기 2로 목록 조회 API를 호출한 뒤, Link 헤더의 다음 페이지 주소로 다시 호출합니다.</li>
+     *     <li> Then : 첫 페이지는 2개와 다음 페이지 Link 헤더를, 두 번째 페이지는 나머지 1개만 반환하는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("findAllArticles() : 커서로 블로그 글 목록을 페이지 단위로 조회한다.")
+    @Test
+    public void findAllArticles_cursorPage() throws Exception {
+        // given
+        final String url = "/api/articles";
+        for (int i = 1; i <= 3; i++) {
+            blogRepository.save(Article.builder()
+                    .title("title" + i)
+                    .content("content" + i)
+                    .build());
+        }
+
+        // when
+        MvcResult first = this.mockMvc.perform(get(url).param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].title").value("title1"))
+                .andExpect(jsonPath("$[1].title").value("title2"))
+                .andReturn();
+        String link = first.getResponse().getHeader(HttpHeaders.LINK);
+        String next = link.substring(link.indexOf('<') + 1, link.indexOf('>'));
+
+        // then
+        this.mockMvc.perform(get(next))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.LINK))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].title").value("title3"));
+    }
+
+    /**
+     * <ul>
+     *     <li> given : Base64 가 아닌 커서와, Base64 이지만 숫자가 아닌 커서를 준비합니다.</li>
+     *     <li> when : 각 커서로 목록 조회 API를 호출합니다.</li>
+     *     <li> then : 서버 오류가 아니라 400 Bad Request 를 반환하는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("findAllArticles() : 해석할 수 없는 커서는 400 Bad Request 를 반환한다.")
+    @Test
+    public void findAllArticles_invalidCursor() throws Exception {
+        // given
+        final String url = "/api/articles";
+        String notBase64 = "!!!";
+        String notNumber = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("abc".getBytes(StandardCharsets.UTF_8));
+
+        // when & then
+        this.mockMvc.perform(get(url).param("cursor", notBase64))
+                .andExpect(status().isBadRequest());
+        this.mockMvc.perform(get(url).param("cursor", notNumber))
+                .andExpect(status().isBadRequest());
+    }
+
+    @DisplayName("findAllArticles() : 글 목록에는 본문 대신 id 와 본문 앞부분(excerpt)만 담긴다.")
+    @Test
+    public void findAllArticles_excerpt() throws Exception {
+        // given
+        final String content = "가".repeat(BlogRepository.EXCERPT_LENGTH + 50);
+        Article saved = blogRepository.save(Article.builder()
+                .title("title")
+                .content(content)
+                .build());
+
+        // when & then
+        this.mockMvc.perform(get("/api/articles"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(saved.getId()))
+                .andExpect(jsonPath("$[0].excerpt")
+                        .value(content.substring(0, BlogRepository.EXCERPT_LENGTH)))
+                .andExpect(jsonPath("$[0].content").doesNotExist());
+    }
+
+    /**
+     * <h3>
+     * 블로그 글 전체 내보내기 테스트
+     * </h3>
+     * <ul>
+     *     <li> Given : 블로그 글 2개를 저장합니다.</li>
+     *     <li> When : 내보내기 API를 호출하고 비동기로 쓰인 응답 본문을 받습니다.</li>
+     *     <li> Then : 기본 비동기 제한 시간 대신 내보내기 제한 시간이 적용되고,
+     *     응답이 NDJSON 형식이며 한 줄에 글 하나씩 저장한 순서대로 담겼는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("exportArticles() : 모든 블로그 글을 NDJSON 으로 내보낸다.")
+    @Test
+    public void exportArticles() throws Exception {
+        // given
+        blogRepository.save(Article.builder().title("title1").content("content1").build());
+        blogRepository.save(Article.builder().title("title2").content("content2").build());
+
+        // when
+        MvcResult asyncResult = this.mockMvc.perform(get("/api/articles/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = this.mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then
+        assertThat(asyncResult.getRequest().getAsyncContext().getTimeout())
+                .isEqualTo(blogProperties.getExport().getTimeout().toMillis());
+        assertThat(result.getResponse().getContentType()).startsWith("application/x-ndjson");
+        String[] lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("title").asText()).isEqualTo("title1");
+        assertThat(objectMapper.readTree(lines[1]).get("content").asText()).isEqualTo("content2");
+    }
+
+    /**
+     * <ul>
+     *     <li> given : 블로그 글 3개를 저장하고 검색 색인을 다시 만듭니다.</li>
+     *     <li> when : 조사가 붙지 않은 검색어로 검색 API를 호출합니다.</li>
+     *     <li> then : 검색어가 들어 있는 글 2개만 반환되고, 제목에 검색어가 있는 글이 먼저 오는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("searchArticles() : 제목과 본문에서 검색어가 들어 있는 글을 관련도 순서로 반환한다.")
+    @Test
+    public void searchArticles() throws Exception {
+        // given
+        Article inContent = blogRepository.save(Article.builder()
+                .title("오늘의 일기").content("퇴근하고 스프링을 공부했다.").build());
+        Article inTitle = blogRepository.save(Article.builder()
+                .title("스프링 시큐리티 정리").content("필터 체인과 인증 과정을 정리합니다.").build());
+        blogRepository.save(Article.builder().title("여행").content("바다를 보러 갔다.").build());
+        articleSearchService.rebuild();
+
+        // when
+        ResultActions result = this.mockMvc.perform(get("/api/articles/search")
+                .param("q", "스프링")
+                .param("size", "10"));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.hits.length()").value(2))
+                .andExpect(jsonPath("$.hits[0].id").value(inTitle.getId()))
+                .andExpect(jsonPath("$.hits[1].id").value(inContent.getId()));
+    }
+
+    @DisplayName("searchArticles() : 검색어가 비어 있거나 페이지 번호가 음수이거나 결과 범위(1000건)를 넘으면 400 Bad Request 를 반환한다.")
+    @Test
+    public void searchArticles_invalidParameters() throws Exception {
+        // when & then
+        this.mockMvc.perform(get("/api/articles/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+        this.mockMvc.perform(get("/api/articles/search").param("q", "스프링").param("page", "-1"))
+                .andExpect(status().isBadRequest());
+        this.mockMvc.perform(get("/api/articles/search").param("q", "스프링").param("page", "10").param("size", "100"))
+                .andExpect(status().isBadRequest());
+        this.mockMvc.perform(get("/api/articles/search").param("q", "스프링").param("page", "2147483647"))
+                .andExpect(status().isBadRequest());
+        this.mockMvc.perform(get("/api/articles/search").param("q", "스프링").param("page", "9").param("size", "100"))
+                .andExpect(status().isOk());
+    }
+
     /**
      * <h3>
      * 블로그 글을 id 로 조회하는 테스트
@@ -243,4 +569,229 @@ class BlogApiControllerTest {
         assertThat(article.getContent()).isEqualTo(newContent);
 
     }
-}
\ No newline at end of file
+
+    /**
+     * <ul>
+     *     <li> given : 블로그 글을 저장하고 id 로 한 번 조회해 캐시에 올립니다.</li>
+     *     <li> when : 수정 API를 호출한 뒤 다시 id 로 조회합니다.</li>
+     *     <li> then : 수정 시 캐시가 무효화되어 수정된 제목이 반환되는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("findArticle : 조회한 글은 캐시에 저장되고, 수정하면 캐시가 무효화된다.")
+    @Test
+    public void findArticle_cacheEvictedOnUpdate() throws Exception {
+        // given
+        Article saved = blogRepository.save(Article.builder().title("title").content("content").build());
+        Cache cache = cacheManager.getCache(BlogServiceImpl.ARTICLE_CACHE);
+        mockMvc.perform(get("/api/articles/{id}", saved.getId())).andExpect(status().isOk());
+        assertThat(cache.get(saved.getId())).isNotNull();
+
+        // when
+        mockMvc.perform(put("/api/articles/{id}", saved.getId())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new UpdateArticleRequest("newTitle", "newContent"))))
+                .andExpect(status().isOk());
+        assertThat(cache.get(saved.getId())).isNull();
+        ResultActions result = mockMvc.perform(get("/api/articles/{id}", saved.getId()));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("newTitle"));
+    }
+
+    /**
+     * <ul>
+     *     <li> given : 블로그 글을 저장하고 수정 전 스냅샷을 만들어 둡니다.</li>
+     *     <li> when : 글을 수정한 직후, 수정 전에 데이터베이스를 읽은 캐시 미스 조회가 늦게 끝난 것처럼 이전 스냅샷을 캐시에 저장합니다.</li>
+     *     <li> then : 잠시 뒤 이전 스냅샷이 캐시에서 지워지고, 조회하면 수정된 제목이 반환되는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("findArticle : 수정과 동시에 조회가 이전 스냅샷을 캐시에 저장해도 잠시 뒤 다시 무효화된다.")
+    @Test
+    public void findArticle_staleSnapshotEvictedAgain() throws Exception {
+        // given
+        Article saved = blogRepository.save(Article.builder().title("title").content("content").build());
+        ArticleSnapshot stale = ArticleSnapshot.from(saved);
+        Cache cache = cacheManager.getCache(BlogServiceImpl.ARTICLE_CACHE);
+
+        // when
+        mockMvc.perform(put("/api/articles/{id}", saved.getId())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new UpdateArticleRequest("newTitle", "newContent"))))
+                .andExpect(status().isOk());
+        cache.put(saved.getId(), stale);
+        mockMvc.perform(get("/api/articles/{id}", saved.getId()))
+                .andExpect(jsonPath("$.title").value("title"));
+
+        // then
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (cache.get(saved.getId()) != null && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(cache.get(saved.getId())).isNull();
+        mockMvc.perform(get("/api/articles/{id}", saved.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("newTitle"));
+    }
+
+    /**
+     * <ul>
+     *     <li> given : 블로그 글을 저장하고, 데이터베이스 조회가 풀어 줄 때까지 기다리도록 만듭니다.</li>
+     *     <li> when : 캐시에 없는 같은 글을 두 요청이 동시에 조회합니다.</li>
+     *     <li> then : 데이터베이스는 한 번만 읽고, 두 요청이 같은 스냅샷을 받으며, 읽은 시간이 타이머에 한 번 기록되는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("findArticle : 같은 글의 캐시 미스가 동시에 나면 데이터베이스는 한 번만 읽고 읽은 시간을 기록한다.")
+    @Test
+    public void findArticle_concurrentMissesLoadOnce() throws Exception {
+        // given
+        Article saved = blogRepository.save(Article.builder().title("title").content("content").build());
+        Long id = saved.getId();
+        Timer loads = meterRegistry.timer(BlogServiceImpl.SNAPSHOT_LOAD_METRIC,
+                "cache", BlogServiceImpl.ARTICLE_CACHE, "outcome", "success");
+        long loadsBefore = loads.count();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(saved);
+        }).when(blogRepository).findById(id);
+
+        // when
+        CompletableFuture<ArticleSnapshot> first = CompletableFuture.supplyAsync(() -> blogService.findSnapshotById(id));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<ArticleSnapshot> second = CompletableFuture.supplyAsync(() -> blogService.findSnapshotById(id));
+        Thread.sleep(200); // 두 번째 요청이 캐시 미스를 내고 먼저 온 요청의 결과를 기다리도록
+        release.countDown();
+
+        // then
+        assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(first.get(5, TimeUnit.SECONDS));
+        verify(blogRepository, times(1)).findById(id);
+        assertThat(loads.count()).isEqualTo(loadsBefore + 1);
+    }
+
+    /**
+     * <ul>
+     *     <li> given : 블로그 글을 저장하고 id 로 조회해 ETag 를 받습니다.</li>
+     *     <li> when : 받은 ETag 를 If-None-Match 헤더에 담아 다시 조회하고, 글을 수정한 뒤 한 번 더 조회합니다.</li>
+     *     <li> then : 수정 전에는 본문 없이 304, 수정 후에는 새 ETag 와 함께 200 을 반환하는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("findArticle : If-None-Match 가 현재 ETag 와 같으면 304 Not Modified 를 반환한다.")
+    @Test
+    public void findArticle_notModified() throws Exception {
+        // given
+        Article saved = blogRepository.save(Article.builder().title("title").content("content").build());
+        String eTag = mockMvc.perform(get("/api/articles/{id}", saved.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).startsWith("\"").doesNotStartWith("W/");
+
+        // when
+        MvcResult notModified = mockMvc.perform(get("/api/articles/{id}", saved.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andReturn();
+        mockMvc.perform(put("/api/articles/{id}", saved.getId())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new UpdateArticleRequest("newTitle", "newContent"))))
+                .andExpect(status().isOk());
+        MvcResult modified = mockMvc.perform(get("/api/articles/{id}", saved.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andReturn();
+
+        // then
+        assertThat(notModified.getResponse().getStatus()).isEqualTo(304);
+        assertThat(notModified.getResponse().getContentAsString()).isEmpty();
+        assertThat(notModified.getResponse().getHeader(HttpHeaders.ETAG)).isEqualTo(eTag);
+        assertThat(modified.getResponse().getStatus()).isEqualTo(200);
+        assertThat(modified.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+    }
+
+    @DisplayName("findAllArticles() : 목록 ETag 가 같으면 304 Not Modified 를 반환한다.")
+    @Test
+    public void findAllArticles_notModified() throws Exception {
+        // given
+        blogRepository.save(Article.builder().title("title1").content("content1").build());
+        String eTag = mockMvc.perform(get("/api/articles"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when
+        ResultActions result = mockMvc.perform(get("/api/articles").header(HttpHeaders.IF_NONE_MATCH, eTag));
+        blogRepository.save(Article.builder().title("title2").content("content2").build());
+        ResultActions changed = mockMvc.perform(get("/api/articles").header(HttpHeaders.IF_NONE_MATCH, eTag));
+
+        // then
+        result.andExpect(status().isNotModified());
+        changed.andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    /**
+     * <ul>
+     *     <li> given : 블로그 글을 저장하고 조회해 ETag 를 받은 뒤, 다른 사용자가 먼저 글을 수정합니다.</li>
+     *     <li> when : 처음 받은 ETag 를 If-Match 헤더에 담아 수정 API를 호출합니다.</li>
+     *     <li> then : 412 Precondition Failed 를 반환하고, 먼저 수정한 내용이 유지되는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("updateArticle: If-Match 의 버전이 현재 버전과 다르면 412 를 반환하고 수정하지 않는다.")
+    @Test
+    public void updateArticle_ifMatchConflict() throws Exception {
+        // given
+        Article saved = blogRepository.save(Article.builder().title("title").content("content").build());
+        String eTag = mockMvc.perform(get("/api/articles/{id}", saved.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(put("/api/articles/{id}", saved.getId())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .content(objectMapper.writeValueAsString(new UpdateArticleRequest("first", "first"))))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + saved.getId() + "-1\""));
+
+        // when
+        ResultActions result = mockMvc.perform(put("/api/articles/{id}", saved.getId())
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .content(objectMapper.writeValueAsString(new UpdateArticleRequest("second", "second"))));
+
+        // then
+        result.andExpect(status().isPreconditionFailed());
+        Article article = blogRepository.findById(saved.getId()).get();
+        assertThat(article.getTitle()).isEqualTo("first");
+        assertThat(article.getVersion()).isEqualTo(1L);
+    }
+
+    /**
+     * <ul>
+     *     <li> given : 블로그 글을 저장하고, 수정 요청이 글을 읽은 뒤 커밋하기 전에 다른 사용자의 수정이 먼저 커밋되도록 합니다.</li>
+     *     <li> when : If-Match 없이 수정 API를 호출합니다.</li>
+     *     <li> then : 최신 글에 다시 덮어쓰지 않고 409 Conflict 를 반환하며, 먼저 커밋된 수정이 유지되는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("updateArticle: If-Match 가 없어도 저장 전에 다른 수정이 커밋되면 덮어쓰지 않고 409 를 반환한다.")
+    @Test
+    public void updateArticle_concurrentEditConflict() throws Exception {
+        // given
+        Article saved = blogRepository.save(Article.builder().title("title").content("content").build());
+        doAnswer(invocation -> {
+            // 이 요청은 이미 글을 읽고 수정했지만 아직 커밋하지 않은 상태
+            CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status ->
+                    blogRepository.findById(saved.getId()).orElseThrow().update("other", "other"))).join();
+            return invocation.callRealMethod();
+        }).doCallRealMethod().when(articleSearchService).indexAfterCommit(any(Article.class));
+
+        // when
+        ResultActions result = mockMvc.perform(put("/api/articles/{id}", saved.getId())
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(new UpdateArticleRequest("mine", "mine"))));
+
+        // then
+        result.andExpect(status().isConflict());
+        Article article = blogRepository.findById(saved.getId()).get();
+        assertThat(article.getTitle()).isEqualTo("other");
+        assertThat(article.getVersion()).isEqualTo(1L);
+        verify(articleSearchService, times(1)).indexAfterCommit(any(Article.class)); // 다시 시도하지 않음
+    }
+}
@@ -1,17 +1,36 @@
 package com.adam9e96.BlogStudy.controller;
 
+import com.adam9e96.BlogStudy.domain.Article;
+import com.adam9e96.BlogStudy.dto.UpdateArticleRequest;
+import com.adam9e96.BlogStudy.repository.BlogRepository;
+import com.adam9e96.BlogStudy.service.ArticleViewCounter;
 import com.adam9e96.BlogStudy.service.BlogServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasProperty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
 
-@SpringBootTest
+@SpringBootTest(properties = "blog.views.flush-interval=1h") // 예약 반영이 테스트 도중에 끼어들지 않도록
 @AutoConfigureMockMvc
 class BlogViewControllerTest {
 
@@ -24,6 +43,15 @@ class BlogViewControllerTest {
     @Autowired
     private BlogServiceImpl blogService;
 
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @Autowired
+    private ArticleViewCounter articleViewCounter;
+
+    @Autowired
+    private CacheManager cacheManager;
+
     /**
      * MockMvc 객체를 생성합니다.
      * 이 메서드는 각 테스트 메서드가 실행되기 전에 실행됩니다.
@@ -33,5 +61,119 @@ class BlogViewControllerTest {
         this.mockMvc = MockMvcBuilders.webAppContextSetup(this.context).build();
     }
 
+    /**
+     * <ul>
+     *     <li> Given : 블로그 글을 저장합니다.</li>
+     *     <li> When : 글 목록 화면을 요청합니다.</li>
+     *     <li> Then : 응답 코드가 200 OK 이고, 목록 요약에 저장한 글이 담겼는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("getArticles(): 글 목록 화면에 글 요약 목록을 담는다.")
+    @Test
+    public void getArticles() throws Exception {
+        // given
+        blogRepository.deleteAll();
+        blogRepository.save(Article.builder()
+                .title("title9e96")
+                .content("content9e96")
+                .build());
+
+        // when & then
+        mockMvc.perform(get("/articles"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("articleList"))
+                .andExpect(model().attribute("articles", hasSize(1)))
+                .andExpect(model().attribute("nextCursor", nullValue()));
+    }
+
+    /**
+     * <ul>
+     *     <li> Given : 블로그 글을 저장합니다.</li>
+     *     <li> When : 글 화면을 세 번 요청한 뒤 조회수를 데이터베이스에 반영합니다.</li>
+     *     <li> Then : 반영 전에는 메모리에만 쌓이고, 반영 후 views 컬럼이 3 증가했는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("getArticle(): 글 화면을 조회하면 조회수가 모였다가 한 번에 반영된다.")
+    @Test
+    public void getArticle_countsViews() throws Exception {
+        // given
+        Article saved = blogRepository.save(Article.builder()
+                .title("title9e96")
+                .content("content9e96")
+                .build());
+        articleViewCounter.flush();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/articles/{id}", saved.getId()))
+                    .andExpect(status().isOk())
+                    .andExpect(view().name("article"));
+        }
+        long pending = articleViewCounter.pending(saved.getId());
+        articleViewCounter.flush();
 
-}
\ No newline at end of file
+        // then
+        assertThat(pending).isEqualTo(3);
+        assertThat(articleViewCounter.pending(saved.getId())).isZero();
+        assertThat(blogRepository.findById(saved.getId()).get().getViews()).isEqualTo(3);
+    }
+
+    /**
+     * <ul>
+     *     <li> Given : 블로그 글을 저장하고 글 화면을 두 번 요청해 스냅샷을 캐시에 저장합니다.</li>
+     *     <li> When : 조회수를 데이터베이스에 반영한 뒤 글 화면을 다시 요청합니다.</li>
+     *     <li> Then : 반영 전에도 아직 반영되지 않은 조회수를 더해 보여 주고,
+     *     반영 후에도 스냅샷 캐시를 비우지 않은 채 반영된 조회수에 이번 조회를 더한 값이 화면에 나오는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("getArticle(): 글 화면에 조회수를 보여 주고, 반영한 뒤에도 조회수가 이어진다.")
+    @Test
+    public void getArticle_rendersViews() throws Exception {
+        // given
+        Article saved = blogRepository.save(Article.builder()
+                .title("title9e96")
+                .content("content9e96")
+                .build());
+        articleViewCounter.flush();
+        mockMvc.perform(get("/articles/{id}", saved.getId()))
+                .andExpect(content().string(containsString("조회수 1")));
+        mockMvc.perform(get("/articles/{id}", saved.getId()))
+                .andExpect(content().string(containsString("조회수 2")));
+
+        // when
+        articleViewCounter.flush();
+        Cache.ValueWrapper cachedAfterFlush = cacheManager.getCache(BlogServiceImpl.ARTICLE_CACHE).get(saved.getId());
+        ResultActions result = mockMvc.perform(get("/articles/{id}", saved.getId()));
+
+        // then
+        assertThat(cachedAfterFlush).isNotNull();
+        assertThat(blogRepository.findById(saved.getId()).get().getViews()).isEqualTo(2);
+        result.andExpect(status().isOk())
+                .andExpect(model().attribute("article", hasProperty("views", is(3L))))
+                .andExpect(content().string(containsString("조회수 3")));
+    }
+
+    /**
+     * <ul>
+     *     <li> Given : 블로그 글을 저장하고 한 번 수정해 버전을 1로 만듭니다.</li>
+     *     <li> When : 수정 화면을 요청합니다.</li>
+     *     <li> Then : 화면에 현재 버전의 ETag 가 담겨 수정 요청의 If-Match 로 보낼 수 있는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("newArticle(): 수정 화면에 현재 버전의 ETag 를 담는다.")
+    @Test
+    public void newArticle_rendersETag() throws Exception {
+        // given
+        Article saved = blogRepository.save(Article.builder().title("title").content("content").build());
+        blogService.update(saved.getId(), new UpdateArticleRequest("title2", "content2"));
+
+        // when
+        ResultActions result = mockMvc.perform(get("/new-article").param("id", saved.getId().toString()));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(view().name("newArticle"))
+                .andExpect(model().attribute("eTag", "\"" + saved.getId() + "-1\""))
+                .andExpect(content().string(containsString("id=\"article-etag\"")));
+    }
+}
@@ -3,11 +3,14 @@ package com.adam9e96.BlogStudy.controller;
 
 import com.adam9e96.BlogStudy.config.jwt.JwtFactory;
 import com.adam9e96.BlogStudy.config.jwt.JwtProperties;
+import com.adam9e96.BlogStudy.config.jwt.TokenProvider;
 import com.adam9e96.BlogStudy.domain.RefreshToken;
 import com.adam9e96.BlogStudy.domain.User;
 import com.adam9e96.BlogStudy.dto.CreateAccessTokenRequest;
+import com.adam9e96.BlogStudy.dto.UserSnapshot;
 import com.adam9e96.BlogStudy.repository.RefreshTokenRepository;
 import com.adam9e96.BlogStudy.repository.UserRepository;
+import com.adam9e96.BlogStudy.service.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +18,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MockMvcBuilder;
@@ -22,8 +27,19 @@ import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -51,9 +67,13 @@ class TokenApiControllerTest {
     @Autowired
     JwtProperties jwtProperties;
     @Autowired
+    TokenProvider tokenProvider;
+    @Autowired
     UserRepository userRepository;
     @Autowired
     RefreshTokenRepository refreshTokenRepository;
+    @Autowired
+    CacheManager cacheManager;
 
     @BeforeEach
     public void mockMvcSetUp() {
@@ -96,4 +116,219 @@ class TokenApiControllerTest {
                 .andExpect(jsonPath("$.accessToken").isNotEmpty());
     }
 
-}
\ No newline at end of file
+    /**
+     * <ul>
+     *     <li> given : 테스트 유저와 리프레시 토큰을 저장합니다.</li>
+     *     <li> when : 리프레시 토큰으로 재발급을 요청합니다.</li>
+     *     <li> then : 재발급에 사용한 유저가 패스워드 해시 없이 id 와 이메일만 담긴 스냅샷으로 캐시에 저장되는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("createNewAccessToken: 유저 정보는 패스워드 해시 없이 캐시에 저장한다.")
+    @Test
+    public void createNewAccessToken_cachesUserWithoutPassword() throws Exception {
+        // given
+        User testUser = userRepository.save(User.builder()
+                .email("cached@gmail.com")
+                .password("test")
+                .build());
+
+        String refreshToken = JwtFactory.builder()
+                .claims(Map.of("id", testUser.getId()))
+                .build()
+                .createToken(jwtProperties);
+
+        refreshTokenRepository.save(new RefreshToken(testUser.getId(), refreshToken));
+
+        // when
+        ResultActions resultActions = refresh(refreshToken);
+
+        // then
+        resultActions.andExpect(status().isCreated());
+        Cache.ValueWrapper cached = cacheManager.getCache(UserService.USER_CACHE).get(testUser.getId());
+        assertThat(cached).isNotNull();
+        assertThat(cached.get()).isEqualTo(new UserSnapshot(testUser.getId(), "cached@gmail.com"));
+    }
+
+    /**
+     * <ul>
+     *     <li> given : 테스트 유저와 리프레시 토큰을 저장합니다.</li>
+     *     <li> when : 리프레시 토큰으로 재발급을 요청한 뒤, 같은 토큰으로 한 번 더 요청합니다.</li>
+     *     <li> then : 첫 요청은 새 리프레시 토큰을 받고, 교체된 토큰으로 보낸 두 번째 요청은 401 이며 새 토큰은 계속 사용할 수 있는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("createNewAccessToken: 리프레시 토큰을 교체하고, 교체된 토큰은 다시 사용할 수 없다.")
+    @Test
+    public void createNewAccessToken_rotatesRefreshToken() throws Exception {
+        // given
+        String refreshToken = saveRefreshToken("rotate@gmail.com");
+
+        // when
+        String body = refresh(refreshToken)
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.accessToken").isNotEmpty())
+                .andExpect(jsonPath("$.refreshToken").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+        String newRefreshToken = objectMapper.readTree(body).get("refreshToken").asText();
+
+        // then
+        assertThat(newRefreshToken).isNotEqualTo(refreshToken);
+        refresh(refreshToken).andExpect(status().isUnauthorized());
+        refresh(newRefreshToken).andExpect(status().isCreated());
+    }
+
+    /**
+     * <ul>
+     *     <li> given : 리프레시 토큰을 한 번 교체하고, 재사용 유예 시간을 0 으로 설정합니다.</li>
+     *     <li> when : 교체된 이전 리프레시 토큰으로 재발급을 요청합니다.</li>
+     *     <li> then : 요청이 거절되고 사용자의 리프레시 토큰이 폐기되어 새 토큰도 사용할 수 없는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("createNewAccessToken: 교체된 리프레시 토큰이 재사용되면 사용자의 리프레시 토큰을 폐기한다.")
+    @Test
+    public void createNewAccessToken_reuseRevokesToken() throws Exception {
+        // given
+        String refreshToken = saveRefreshToken("reuse@gmail.com");
+        String body = refresh(refreshToken).andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        String newRefreshToken = objectMapper.readTree(body).get("refreshToken").asText();
+
+        Duration grace = jwtProperties.getRefreshTokenReuseGrace();
+        jwtProperties.setRefreshTokenReuseGrace(Duration.ZERO);
+        try {
+            // when
+            refresh(refreshToken).andExpect(status().isUnauthorized());
+        } finally {
+            jwtProperties.setRefreshTokenReuseGrace(grace);
+        }
+
+        // then
+        refresh(newRefreshToken).andExpect(status().isUnauthorized());
+    }
+
+    /**
+     * <ul>
+     *     <li> given : family id 가 담긴 리프레시 토큰 T1 을 저장하고, 탈취한 쪽이 T1 → T2 → T3 으로 두 번 교체합니다.</li>
+     *     <li> when : 원래 사용자가 두 번 전에 교체된 T1 으로 재발급을 요청합니다.</li>
+     *     <li> then : 같은 family 의 재사용으로 보고 거절하며, 사용자의 리프레시 토큰이 폐기되어 T3 도 사용할 수 없는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("createNewAccessToken: 두 번 전에 교체된 같은 family 의 리프레시 토큰이 재사용되어도 토큰을 폐기한다.")
+    @Test
+    public void createNewAccessToken_reuseTwoGenerationsBackRevokesFamily() throws Exception {
+        // given
+        String first = saveRefreshTokenFamily("family@gmail.com");
+        String second = rotatedRefreshToken(refresh(first));
+        String third = rotatedRefreshToken(refresh(second));
+
+        // when
+        ResultActions result = refresh(first);
+
+        // then
+        result.andExpect(status().isUnauthorized());
+        refresh(third).andExpect(status().isUnauthorized());
+    }
+
+    /**
+     * <ul>
+     *     <li> given : family id 가 담긴 리프레시 토큰을 저장하고, 같은 사용자의 액세스 토큰을 발급받습니다.</li>
+     *     <li> when : 액세스 토큰을 리프레시 토큰 자리에 보냅니다.</li>
+     *     <li> then : 거절하지만 재사용으로 보지 않으므로 리프레시 토큰은 계속 사용할 수 있는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("createNewAccessToken: 리프레시 토큰이 아닌 토큰은 거절만 하고 리프레시 토큰을 폐기하지 않는다.")
+    @Test
+    public void createNewAccessToken_accessTokenDoesNotRevoke() throws Exception {
+        // given
+        String refreshToken = saveRefreshTokenFamily("access@gmail.com");
+        User user = userRepository.findByEmail("access@gmail.com").orElseThrow();
+        String accessToken = tokenProvider.generateToken(user, Duration.ofHours(2));
+
+        // when
+        ResultActions result = refresh(accessToken);
+
+        // then
+        result.andExpect(status().isUnauthorized());
+        refresh(refreshToken).andExpect(status().isCreated());
+    }
+
+    /**
+     * <ul>
+     *     <li> given : 테스트 유저와 리프레시 토큰을 저장합니다.</li>
+     *     <li> when : 같은 리프레시 토큰으로 여러 스레드에서 동시에 재발급을 요청합니다.</li>
+     *     <li> then : 정확히 한 요청만 성공하고 나머지는 401 인지 확인합니다. (유예 시간 안이므로 토큰은 폐기되지 않음)</li>
+     * </ul>
+     */
+    @DisplayName("createNewAccessToken: 같은 리프레시 토큰으로 동시에 요청하면 한 요청만 성공한다.")
+    @Test
+    public void createNewAccessToken_concurrentRefresh() throws Exception {
+        // given
+        String refreshToken = saveRefreshToken("race@gmail.com");
+        int concurrency = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<Integer>> statuses = new ArrayList<>();
+        try {
+            for (int i = 0; i < concurrency; i++) {
+                statuses.add(executor.submit(() -> {
+                    start.await();
+                    return refresh(refreshToken).andReturn().getResponse().getStatus();
+                }));
+            }
+            start.countDown();
+
+            // then
+            List<Integer> results = new ArrayList<>();
+            for (Future<Integer> status : statuses) {
+                results.add(status.get(30, TimeUnit.SECONDS));
+            }
+            assertThat(results).filteredOn(status -> status == 201).hasSize(1);
+            assertThat(results).filteredOn(status -> status == 401).hasSize(concurrency - 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private String saveRefreshToken(String email) {
+        User testUser = userRepository.save(User.builder()
+                .email(email)
+                .password("test")
+                .build());
+
+        String refreshToken = JwtFactory.builder()
+                .claims(Map.of("id", testUser.getId()))
+                .build()
+                .createToken(jwtProperties);
+
+        refreshTokenRepository.save(new RefreshToken(testUser.getId(), refreshToken));
+        return refreshToken;
+    }
+
+    // TokenProvider 로 family id 가 담긴 리프레시 토큰을 발급해 저장한다.
+    private String saveRefreshTokenFamily(String email) {
+        User testUser = userRepository.save(User.builder()
+                .email(email)
+                .password("test")
+                .build());
+
+        String familyId = UUID.randomUUID().toString();
+        String refreshToken = tokenProvider.generateRefreshToken(testUser, familyId, RefreshToken.DEFAULT_TTL);
+        refreshTokenRepository.save(new RefreshToken(testUser.getId(), refreshToken, familyId,
+                LocalDateTime.now().plus(RefreshToken.DEFAULT_TTL)));
+        return refreshToken;
+    }
+
+    private String rotatedRefreshToken(ResultActions result) throws Exception {
+        String body = result.andExpect(status().isCreated()).andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("refreshToken").asText();
+    }
+
+    private ResultActions refresh(String refreshToken) throws Exception {
+        CreateAccessTokenRequest request = new CreateAccessTokenRequest();
+        request.setRefreshToken(refreshToken);
+        return mockMvc.perform(post("/api/token")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+    }
+}
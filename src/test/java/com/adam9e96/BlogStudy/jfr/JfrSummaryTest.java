@@ -0,0 +1,52 @@
+package com.adam9e96.BlogStudy.jfr;
+
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JfrSummaryTest {
+
+    /**
+     * <ul>
+     *     <li> given : 애플리케이션 이벤트만 켠 JFR 기록을 시작하고, 토큰·게시물·렌더링 이벤트를 발생시킵니다.</li>
+     *     <li> when : 기록을 파일로 저장해 요약합니다.</li>
+     *     <li> then : 작업별로 건수와 평균 행 수가 집계되는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("summarize: 기록 파일의 애플리케이션 이벤트를 작업별로 집계한다.")
+    @Test
+    void summarize(@TempDir Path dir) throws Exception {
+        // given
+        Path file = dir.resolve("events.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(TokenEvent.NAME).withoutThreshold();
+            recording.enable(ArticleQueryEvent.NAME).withoutThreshold();
+            recording.enable(ViewRenderEvent.NAME).withoutThreshold();
+            recording.start();
+
+            TokenEvent.start(TokenEvent.VERIFY).finish("VALID");
+            TokenEvent.start(TokenEvent.VERIFY).finish("VALID");
+            TokenEvent.start(TokenEvent.VERIFY).finish("EXPIRED");
+            ArticleQueryEvent.start("findPage").finish(20);
+            ArticleQueryEvent.start("findPage").finish(10);
+            ViewRenderEvent.start("articleList").finish(false);
+
+            // when
+            recording.stop();
+            recording.dump(file);
+        }
+        String summary = JfrSummary.summarize(file);
+
+        // then
+        assertThat(summary.lines())
+                .anyMatch(line -> line.startsWith("token verify VALID ") && line.contains(" 2 "))
+                .anyMatch(line -> line.startsWith("token verify EXPIRED ") && line.contains(" 1 "))
+                .anyMatch(line -> line.startsWith("article findPage ") && line.endsWith(" 15.0"))
+                .anyMatch(line -> line.startsWith("view articleList ") && line.endsWith(" -"));
+    }
+}
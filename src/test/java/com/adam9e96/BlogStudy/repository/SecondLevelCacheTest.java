@@ -0,0 +1,95 @@
+package com.adam9e96.BlogStudy.repository;
+
+import com.adam9e96.BlogStudy.domain.Article;
+import com.adam9e96.BlogStudy.dto.ArticleSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@code l2cache} 프로필에서 Hibernate 2차 캐시와 쿼리 캐시가 동작하는지 확인하는 테스트입니다.
+ */
+@ActiveProfiles("l2cache")
+@SpringBootTest
+class SecondLevelCacheTest {
+
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * <ul>
+     *     <li> given : 게시물을 저장합니다. (저장할 때 2차 캐시에도 들어감)</li>
+     *     <li> when : 트랜잭션 밖에서 같은 id 로 두 번 조회합니다. (조회마다 새 영속성 컨텍스트)</li>
+     *     <li> then : 두 조회 모두 article 영역에서 읽히고, 적중 수가 메트릭으로 노출되는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("findById(): 다른 영속성 컨텍스트의 조회도 2차 캐시에서 읽는다.")
+    @Test
+    void findById_hitsSecondLevelCache() {
+        // given
+        Article article = blogRepository.save(Article.builder().title("제목").content("내용").build());
+        long hits = statistics.getDomainDataRegionStatistics("article").getHitCount();
+
+        // when
+        blogRepository.findById(article.getId()).orElseThrow();
+        blogRepository.findById(article.getId()).orElseThrow();
+
+        // then
+        assertThat(statistics.getDomainDataRegionStatistics("article").getHitCount()).isEqualTo(hits + 2);
+        assertThat(meterRegistry.get("hibernate.second.level.cache.requests")
+                .tag("region", "article").tag("result", "hit").functionCounter().count())
+                .isGreaterThanOrEqualTo(2);
+    }
+
+    /**
+     * <ul>
+     *     <li> given : 목록 첫 페이지를 한 번 조회해 쿼리 캐시에 저장합니다.</li>
+     *     <li> when : 같은 조회를 다시 하고, 게시물을 추가한 뒤 한 번 더 조회합니다.</li>
+     *     <li> then : 두 번째 조회는 쿼리 캐시에서 읽고, 게시물이 추가된 뒤에는 캐시가 무효화되어 데이터베이스에서 읽는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("findSummaries(): 목록 프로젝션은 쿼리 캐시에서 읽고, 게시물이 바뀌면 다시 조회한다.")
+    @Test
+    void findSummaries_usesQueryCache() {
+        // given
+        blogRepository.findSummaries(Limit.of(5));
+        long hits = statistics.getQueryCacheHitCount();
+        long misses = statistics.getQueryCacheMissCount();
+
+        // when
+        List<ArticleSummary> cached = blogRepository.findSummaries(Limit.of(5));
+        long hitsAfterRepeat = statistics.getQueryCacheHitCount();
+        blogRepository.save(Article.builder().title("새 글").content("내용").build());
+        blogRepository.findSummaries(Limit.of(5));
+
+        // then
+        assertThat(cached).isNotEmpty();
+        assertThat(hitsAfterRepeat).isEqualTo(hits + 1);
+        assertThat(statistics.getQueryCacheMissCount()).isEqualTo(misses + 1);
+    }
+}
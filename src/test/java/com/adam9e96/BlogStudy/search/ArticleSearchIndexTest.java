@@ -0,0 +1,166 @@
+package com.adam9e96.BlogStudy.search;
+
+import com.adam9e96.BlogStudy.domain.Article;
+import com.adam9e96.BlogStudy.dto.ArticleSearchHit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleSearchIndexTest {
+
+    private static Article article(long id, String title, String content) {
+        Article article = Article.builder().title(title).content(content).build();
+        ReflectionTestUtils.setField(article, "id", id);
+        return article;
+    }
+
+    @DisplayName("tokenizeForIndex(): 한글은 unigram 과 bigram 으로, 영문은 소문자 단어로 나눈다.")
+    @Test
+    void tokenize() {
+        assertThat(NGramTokenizer.tokenizeForIndex("스프링 JWT"))
+                .containsExactly("스", "프", "링", "스프", "프링", "jwt");
+        assertThat(NGramTokenizer.tokenizeForQuery("스프링 JWT"))
+                .containsExactly("스프", "프링", "jwt");
+    }
+
+    /**
+     * <ul>
+     *     <li> given : 조사가 붙은 단어가 들어 있는 게시물을 색인합니다.</li>
+     *     <li> when : 조사를 뺀 검색어로 검색합니다.</li>
+     *     <li> then : 검색어가 들어 있는 게시물만, 제목에 검색어가 있는 게시물이 먼저 오도록 반환하는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("search(): 검색어와 관련된 게시물을 점수 순서로 반환한다.")
+    @Test
+    void search_ranked() {
+        // given
+        ArticleSearchIndex index = new ArticleSearchIndex();
+        index.index(article(1L, "일기", "오늘은 데이터베이스를 공부했다."));
+        index.index(article(2L, "데이터베이스 인덱스", "B-Tree 인덱스의 구조"));
+        index.index(article(3L, "여행", "바다를 보러 갔다."));
+
+        // when
+        ArticleSearchIndex.Result result = index.search("데이터베이스", 0, 10);
+
+        // then
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(result.hits()).extracting(ArticleSearchHit::id).containsExactly(2L, 1L);
+    }
+
+    @DisplayName("search(): offset 과 limit 으로 결과를 페이지 단위로 나눈다.")
+    @Test
+    void search_paged() {
+        // given
+        ArticleSearchIndex index = new ArticleSearchIndex();
+        for (long id = 1; id <= 5; id++) {
+            index.index(article(id, "java " + id, "content"));
+        }
+
+        // when
+        ArticleSearchIndex.Result first = index.search("java", 0, 2);
+        ArticleSearchIndex.Result last = index.search("java", 4, 2);
+
+        // then
+        assertThat(first.total()).isEqualTo(5);
+        assertThat(first.hits()).extracting(ArticleSearchHit::id).containsExactly(5L, 4L);
+        assertThat(last.hits()).extracting(ArticleSearchHit::id).containsExactly(1L);
+    }
+
+    @DisplayName("index()/remove(): 수정하거나 삭제한 게시물은 이전 내용으로 검색되지 않는다.")
+    @Test
+    void reindexAndRemove() {
+        // given
+        ArticleSearchIndex index = new ArticleSearchIndex();
+        index.index(article(1L, "스프링", "내용"));
+        index.index(article(2L, "스프링 부트", "내용"));
+
+        // when
+        index.index(article(1L, "코틀린", "내용"));
+        index.remove(2L);
+
+        // then
+        assertThat(index.search("스프링", 0, 10).total()).isZero();
+        assertThat(index.search("코틀린", 0, 10).hits()).extracting(ArticleSearchHit::id).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    /**
+     * <ul>
+     *     <li> given : 흔한 단어와 드문 단어를 섞은 게시물 5,000개를 색인합니다.</li>
+     *     <li> when : 상위 10건만 검색하고(건너뛰기 사용), 모든 일치 게시물이 들어가는 크기로 다시 검색합니다(건너뛰기 없음).</li>
+     *     <li> then : 상위 10건이 같고, 건너뛴 게시물이 있으면 전체 건수가 하한값으로 표시되는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("search(): 상위 결과에 들 수 없는 게시물을 건너뛰어도 모두 계산한 결과와 상위 결과가 같다.")
+    @Test
+    void search_pruningKeepsTopHits() {
+        // given
+        String[] words = {"스프링을", "데이터베이스에서", "인덱스", "트랜잭션의", "캐시", "테스트를", "보안", "배포"};
+        Random random = new Random(42);
+        ArticleSearchIndex index = new ArticleSearchIndex();
+        for (long id = 1; id <= 5_000; id++) {
+            StringBuilder content = new StringBuilder();
+            for (int i = 0; i < 3 + random.nextInt(20); i++) {
+                // 앞쪽 단어일수록 자주 나온다.
+                content.append(words[Math.min(words.length - 1, (int) Math.abs(random.nextGaussian() * 3))]).append(' ');
+            }
+            index.index(article(id, words[random.nextInt(words.length)], content.toString()));
+        }
+
+        int pruned = 0;
+        for (String query : List.of("스프링", "데이터베이스 트랜잭션", "배포 보안", "캐시")) {
+            // when
+            ArticleSearchIndex.Result top = index.search(query, 0, 10);
+            ArticleSearchIndex.Result all = index.search(query, 0, 5_000);
+
+            // then
+            assertThat(all.totalExact()).isTrue();
+            assertThat(all.total()).isGreaterThan(ArticleSearchIndex.TOTAL_HITS_THRESHOLD);
+            assertThat(top.hits()).isEqualTo(all.hits().subList(0, 10));
+            if (top.totalExact()) {
+                assertThat(top.total()).isEqualTo(all.total());
+            } else {
+                assertThat(top.total()).isBetween(ArticleSearchIndex.TOTAL_HITS_THRESHOLD, all.total());
+                pruned++;
+            }
+        }
+        assertThat(pruned).isPositive();
+    }
+
+    /**
+     * <ul>
+     *     <li> given : 게시물 3,000개를 색인합니다.</li>
+     *     <li> when : 2,000개를 다른 내용으로 다시 색인하고 500개를 삭제합니다. (삭제 표시가 쌓여 정리가 일어남)</li>
+     *     <li> then : 정리 후에도 최신 내용으로만 검색되고 게시물 수가 맞는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("index()/remove(): 삭제 표시된 게시물이 많아져 색인을 정리해도 검색 결과가 같다.")
+    @Test
+    void compaction() {
+        // given
+        ArticleSearchIndex index = new ArticleSearchIndex();
+        for (long id = 1; id <= 3_000; id++) {
+            index.index(article(id, "자바 " + id, "내용"));
+        }
+
+        // when
+        for (long id = 1; id <= 2_000; id++) {
+            index.index(article(id, "코틀린 " + id, "내용"));
+        }
+        for (long id = 2_501; id <= 3_000; id++) {
+            index.remove(id);
+        }
+
+        // then
+        assertThat(index.size()).isEqualTo(2_500);
+        assertThat(index.search("코틀린", 0, 10_000).total()).isEqualTo(2_000);
+        assertThat(index.search("자바", 0, 10_000).hits()).extracting(ArticleSearchHit::id)
+                .containsExactlyInAnyOrderElementsOf(LongStream.rangeClosed(2_001, 2_500).boxed().toList());
+    }
+}
@@ -0,0 +1,106 @@
+package com.adam9e96.BlogStudy.service;
+
+import com.adam9e96.BlogStudy.domain.RefreshToken;
+import com.adam9e96.BlogStudy.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "jwt.refresh-token-purge.batch-size=2",
+        "jwt.refresh-token-purge.pause=0ms"
+})
+class RefreshTokenPurgeJobTest {
+
+    @Autowired
+    private RefreshTokenPurgeJob refreshTokenPurgeJob;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository.deleteAll();
+    }
+
+    /**
+     * <ul>
+     *     <li> given : 만료된 리프레시 토큰 5개와 만료되지 않은 토큰 1개를 저장합니다.</li>
+     *     <li> when : 배치 크기가 2인 정리 작업을 실행합니다.</li>
+     *     <li> then : 만료된 토큰만 여러 배치에 걸쳐 모두 삭제되고, 삭제한 행 수가 메트릭에 기록되는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("purge(): 만료된 리프레시 토큰만 배치 단위로 삭제한다.")
+    @Test
+    void purge_deletesExpiredTokensInBatches() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        for (long userId = 1; userId <= 5; userId++) {
+            refreshTokenRepository.save(new RefreshToken(userId, "expired-" + userId, now.minusMinutes(userId)));
+        }
+        RefreshToken active = refreshTokenRepository.save(new RefreshToken(6L, "active", now.plusDays(1)));
+        double purgedBefore = meterRegistry.get("refresh.token.purge.rows").counter().count();
+
+        // when
+        int purged = refreshTokenPurgeJob.purge();
+
+        // then
+        assertThat(purged).isEqualTo(5);
+        assertThat(refreshTokenRepository.findAll())
+                .extracting(RefreshToken::getId)
+                .containsExactly(active.getId());
+        assertThat(meterRegistry.get("refresh.token.purge.rows").counter().count() - purgedBefore).isEqualTo(5);
+    }
+
+    /**
+     * <ul>
+     *     <li> given : 스케줄러 스레드 하나를 붙잡고 있는 작업(배치 사이에 쉬는 정리 작업과 같은 상황)을 실행합니다.</li>
+     *     <li> when : 다른 작업(조회수 반영과 같은 상황)을 예약합니다.</li>
+     *     <li> then : 앞의 작업이 끝나기 전에 다른 작업이 실행되는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("scheduler: 정리 작업이 스케줄러 스레드를 붙잡고 있어도 다른 예약 작업은 실행된다.")
+    @Test
+    void scheduler_runsOtherTasksWhileOneBlocks() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch blocking = new CountDownLatch(1);
+        taskScheduler.schedule(() -> {
+            blocking.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, Instant.now());
+        assertThat(blocking.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        CountDownLatch otherRan = new CountDownLatch(1);
+        taskScheduler.schedule(otherRan::countDown, Instant.now());
+
+        // then
+        try {
+            assertThat(otherRan.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            release.countDown();
+        }
+    }
+}